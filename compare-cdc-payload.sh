@@ -0,0 +1,48 @@
+#!/bin/bash
+
+# CDC Payload Comparison Script
+# orders 테이블 CDC 토픽과 Outbox 토픽의 메시지 크기, 그리고 소비 측 CPU 비용(역직렬화 + 비즈니스 이벤트 변환)을 비교합니다.
+# CPU 비교는 두 토픽에서 읽은 메시지를 고정 corpus로 삼아 notification-service의 실제 변환 코드로 반복 처리합니다.
+# (토픽이 비어 있으면 같은 주문 흐름을 두 형식으로 합성한 corpus 사용)
+# 사용법: ./compare-cdc-payload.sh [메시지 수] [CPU 측정 반복 메시지 수]
+echo "========================================="
+echo "📏 Table CDC vs Outbox Payload Size / Consumer CPU"
+echo "========================================="
+
+MAX_MESSAGES="${1:-1000}"
+CPU_MESSAGES="${2:-2000000}"
+CORPUS_DIR=$(mktemp -d)
+trap 'rm -rf "$CORPUS_DIR"' EXIT
+
+measure_topic() {
+  local topic=$1
+  docker exec kafka-cdc kafka-console-consumer \
+    --bootstrap-server localhost:9092 \
+    --topic "$topic" \
+    --from-beginning \
+    --max-messages "$MAX_MESSAGES" \
+    --timeout-ms 10000 2>/dev/null \
+    | tee "$CORPUS_DIR/$topic.json" \
+    | awk -v topic="$topic" '
+        { total += length($0); count++ }
+        END {
+          if (count == 0) { printf "%-30s no messages\n", topic; exit }
+          printf "%-30s messages=%d avg=%.1f bytes total=%d bytes\n", topic, count, total / count, total
+        }'
+}
+
+echo ""
+measure_topic "dbserver1.order_db.orders"
+measure_topic "outbox.event.Order"
+
+echo ""
+echo "Consumer CPU (deserialize + convert, $CPU_MESSAGES messages per source):"
+(cd notification-service && ./gradlew -q fastStartJar) || exit 1
+java -cp notification-service/build/fast-start/notification-service.jar \
+  notification-service/benchmark/CdcConversionHarness.java \
+  "$CORPUS_DIR/dbserver1.order_db.orders.json" "$CORPUS_DIR/outbox.event.Order.json" "$CPU_MESSAGES"
+
+echo ""
+echo "========================================="
+echo "✅ Comparison completed!"
+echo "========================================="
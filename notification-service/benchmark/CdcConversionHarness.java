@@ -0,0 +1,122 @@
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.notificationservice.consumer.OrderEventConverter;
+import com.example.notificationservice.model.DebeziumEvent;
+import com.example.notificationservice.model.OrderOutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테이블 CDC(before/after 비교)와 Outbox(payload 매핑) 소비 경로의 CPU 비용 비교
+ * 같은 메시지 묶음(corpus)을 역직렬화 + 비즈니스 이벤트 변환까지 반복 처리하고, 스레드 CPU 시간으로 메시지당 비용을 계산합니다.
+ * corpus 파일(한 줄에 메시지 하나)이 없거나 비어 있으면 동일한 주문 흐름을 두 형식으로 합성해 사용합니다.
+ * 사용법: java -cp build/fast-start/notification-service.jar CdcConversionHarness.java [테이블 CDC 파일] [Outbox 파일] [반복 메시지 수]
+ */
+public class CdcConversionHarness {
+
+    private static final String TABLE_CREATE = """
+            {"op":"c","ts_ms":1700000000100,"source":{"db":"order_db","table":"orders","ts_ms":1700000000000},\
+            "after":{"id":%1$d,"order_number":"ORD-%1$d","customer_name":"customer-%2$d","total_amount":"1000.00",\
+            "status":"PENDING","notes":null,"item_count":2,"created_at":1700000000000,"updated_at":1700000000000}}""";
+
+    private static final String TABLE_UPDATE = """
+            {"op":"u","ts_ms":1700000000100,"source":{"db":"order_db","table":"orders","ts_ms":1700000000000},\
+            "before":{"id":%1$d,"order_number":"ORD-%1$d","customer_name":"customer-%2$d","total_amount":"1000.00",\
+            "status":"%3$s","notes":null,"item_count":2,"created_at":1700000000000,"updated_at":1700000000000},\
+            "after":{"id":%1$d,"order_number":"ORD-%1$d","customer_name":"customer-%2$d","total_amount":"1000.00",\
+            "status":"%4$s","notes":null,"item_count":2,"created_at":1700000000000,"updated_at":1700000000050}}""";
+
+    private static final String OUTBOX_CREATE = """
+            {"eventType":"OrderCreated","orderId":%1$d,"orderNumber":"ORD-%1$d","customerName":"customer-%2$d",\
+            "status":"PENDING","totalAmount":1000.00,"occurredAt":"2024-01-01T00:00:00"}""";
+
+    private static final String OUTBOX_UPDATE = """
+            {"eventType":"OrderStatusChanged","orderId":%1$d,"orderNumber":"ORD-%1$d","customerName":"customer-%2$d",\
+            "status":"%4$s","previousStatus":"%3$s","totalAmount":1000.00,"occurredAt":"2024-01-01T00:00:00"}""";
+
+    private static final String[] FLOW = {"PENDING", "APPROVED", "SHIPPED", "DELIVERED"};
+
+    public static void main(String[] args) throws Exception {
+        // 변환기의 INFO 로그가 측정을 지배하지 않도록 억제
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        List<String> tableCorpus = args.length > 0 ? readCorpus(Path.of(args[0])) : List.of();
+        List<String> outboxCorpus = args.length > 1 ? readCorpus(Path.of(args[1])) : List.of();
+        int messages = args.length > 2 ? Integer.parseInt(args[2]) : 2_000_000;
+
+        if (tableCorpus.isEmpty() || outboxCorpus.isEmpty()) {
+            System.out.println("Using synthetic corpus (create + 3 status changes per order, 1000 orders)");
+            tableCorpus = synthesize(TABLE_CREATE, TABLE_UPDATE);
+            outboxCorpus = synthesize(OUTBOX_CREATE, OUTBOX_UPDATE);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        OrderEventConverter converter = new OrderEventConverter();
+
+        measure("table CDC", tableCorpus, messages,
+                message -> converter.convert(objectMapper.readValue(message, DebeziumEvent.class)));
+        measure("outbox", outboxCorpus, messages,
+                message -> converter.convert(objectMapper.readValue(message, OrderOutboxEvent.class)));
+    }
+
+    private static void measure(String name, List<String> corpus, int messages, Conversion conversion) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long bytes = corpus.stream().mapToLong(String::length).sum();
+
+        // JIT 예열
+        run(corpus, messages / 4, conversion);
+
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        int converted = run(corpus, messages, conversion);
+        long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+        long wallNanos = System.nanoTime() - wallStart;
+
+        System.out.printf("%-10s corpus=%d msgs avg=%.1f bytes | cpu/msg=%8.1f ns  throughput=%,12.0f msgs/s  events=%d%n",
+                name, corpus.size(), (double) bytes / corpus.size(),
+                (double) cpuNanos / messages, messages * 1e9 / wallNanos, converted);
+    }
+
+    private static int run(List<String> corpus, int messages, Conversion conversion) throws Exception {
+        int converted = 0;
+        for (int i = 0; i < messages; i++) {
+            if (conversion.apply(corpus.get(i % corpus.size())) != null) {
+                converted++;
+            }
+        }
+        return converted;
+    }
+
+    private static List<String> synthesize(String createTemplate, String updateTemplate) {
+        List<String> corpus = new ArrayList<>();
+        for (int id = 1; id <= 1000; id++) {
+            corpus.add(createTemplate.formatted(id, id % 100));
+            for (int step = 1; step < FLOW.length; step++) {
+                corpus.add(updateTemplate.formatted(id, id % 100, FLOW[step - 1], FLOW[step]));
+            }
+        }
+        return corpus;
+    }
+
+    private static List<String> readCorpus(Path file) throws Exception {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        // 콘솔 consumer가 tombstone을 "null"로 출력
+        return Files.readAllLines(file).stream()
+                .filter(line -> !line.isBlank() && !"null".equals(line))
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface Conversion {
+        Object apply(String message) throws Exception;
+    }
+}
@@ -0,0 +1,78 @@
+import com.example.notificationservice.service.CustomerRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고객별 속도 제한(CustomerRateLimiter) 처리량 / 메모리 측정 도구
+ * 서로 다른 고객 키 N개를 여러 스레드가 나눠 여러 번 돌면서 tryAcquire를 호출합니다.
+ * - 처리량: 전체 tryAcquire 호출 수 / 경과 시간
+ * - 메모리: 패스마다 GC 후 힙 사용량과 활성 버킷 수 (max-customers에서 멈춰야 함)
+ * 사용법: java -cp build/fast-start/notification-service.jar RateLimiterHarness.java [고객 수] [스레드 수] [패스 수] [max-customers]
+ */
+public class RateLimiterHarness {
+
+    public static void main(String[] args) throws Exception {
+        int customers = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int passes = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        long maxCustomers = args.length > 3 ? Long.parseLong(args[3]) : 1_000_000;
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // 운영 기본값과 같은 버킷 설정 (1시간 10건, burst 5)
+        CustomerRateLimiter limiter = new CustomerRateLimiter(meterRegistry, 10, Duration.ofHours(1), 5, maxCustomers);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        System.out.printf("customers=%,d threads=%d passes=%d max-customers=%,d%n", customers, threads, passes, maxCustomers);
+        long baselineHeap = usedHeapAfterGc(memory);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int pass = 1; pass <= passes; pass++) {
+                LongAdder allowed = new LongAdder();
+                LongAdder denied = new LongAdder();
+                long start = System.nanoTime();
+
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int offset = t;
+                    futures.add(executor.submit(() -> {
+                        for (int i = offset; i < customers; i += threads) {
+                            if (limiter.tryAcquire("customer-" + i)) {
+                                allowed.increment();
+                            } else {
+                                denied.increment();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+
+                long elapsedNanos = System.nanoTime() - start;
+                double activeBuckets = meterRegistry.get("notification.throttle.customers").gauge().value();
+                double overflow = meterRegistry.get("notification.throttle.overflow").counter().count();
+                System.out.printf("pass %d: %,12.0f acquires/s  allowed=%,d denied=%,d (over cap %,.0f)  active buckets=%,.0f  heap=%,d MB%n",
+                        pass, customers * 1e9 / elapsedNanos, allowed.sum(), denied.sum(), overflow, activeBuckets,
+                        (usedHeapAfterGc(memory) - baselineHeap) / (1024 * 1024));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) throws InterruptedException {
+        System.gc();
+        Thread.sleep(200);
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,109 @@
+#!/bin/bash
+
+# Order/Item Join Benchmark
+# 합성 토픽에 주문 N건과 주문당 상품 K건의 CDC 메시지를 발행하고, 조인 처리량과 힙 사용량을 측정합니다.
+# 실행 중인 docker-compose의 Kafka만 필요합니다. (MySQL, Debezium 불필요)
+# 사용법: ./join-benchmark.sh [주문 수] [주문당 상품 수] [orders-first|items-first]
+echo "========================================="
+echo "🔗 Order/Item Join Benchmark"
+echo "========================================="
+
+cd "$(dirname "$0")/.."
+
+COUNT="${1:-100000}"
+ITEMS="${2:-3}"
+ORDERING="${3:-orders-first}"
+PORT=18082
+RUN_ID=$(date +%s)
+ORDERS_TOPIC="bench.join.orders.$RUN_ID"
+ITEMS_TOPIC="bench.join.order_items.$RUN_ID"
+METRICS_URL="http://localhost:$PORT/actuator/metrics"
+
+now_ms() {
+  date +%s%3N
+}
+
+metric() {
+  curl -s "$METRICS_URL/$1${2:+?tag=$2}" | jq -r '.measurements[0].value // 0'
+}
+
+produce() {
+  docker exec -i kafka-cdc kafka-console-producer --bootstrap-server kafka:9092 --topic "$1" > /dev/null
+}
+
+generate_orders() {
+  local ts=$(now_ms)
+  seq 1 "$COUNT" | awk -v ts="$ts" -v items="$ITEMS" '{
+    printf "{\"op\":\"c\",\"ts_ms\":%d,\"source\":{\"table\":\"orders\",\"ts_ms\":%d},\"after\":{\"id\":%d,\"order_number\":\"BENCH-%d\",\"customer_name\":\"bench-%d\",\"total_amount\":\"1000\",\"status\":\"PENDING\",\"item_count\":%d,\"updated_at\":%d}}\n", ts, ts, $1, $1, $1, items, ts
+  }'
+}
+
+generate_items() {
+  local ts=$(now_ms)
+  seq 1 "$COUNT" | awk -v ts="$ts" -v items="$ITEMS" '{
+    for (i = 1; i <= items; i++) {
+      printf "{\"op\":\"c\",\"ts_ms\":%d,\"source\":{\"table\":\"order_items\",\"ts_ms\":%d},\"after\":{\"id\":%d,\"order_id\":%d,\"product_name\":\"item-%d\",\"quantity\":1,\"unit_price\":\"100\"}}\n", ts, ts, ($1 - 1) * items + i, $1, i
+    }
+  }'
+}
+
+./gradlew -q bootJar || exit 1
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+# Step 1: 합성 토픽 준비 (서비스가 처음부터 소비하도록 먼저 발행)
+echo ""
+echo "📦 Step 1: Producing $COUNT orders x $ITEMS items ($ORDERING)..."
+if [ "$ORDERING" = "items-first" ]; then
+  generate_items | produce "$ITEMS_TOPIC"
+  generate_orders | produce "$ORDERS_TOPIC"
+else
+  generate_orders | produce "$ORDERS_TOPIC"
+  generate_items | produce "$ITEMS_TOPIC"
+fi
+
+# Step 2: 합성 토픽을 구독하도록 서비스 기동
+echo ""
+echo "🚀 Step 2: Starting notification-service on synthetic topics..."
+START=$(now_ms)
+java -Xmx512m -jar "$JAR" \
+  --server.port=$PORT \
+  --cdc.topics.orders="$ORDERS_TOPIC" \
+  --cdc.topics.order-items="$ITEMS_TOPIC" \
+  --spring.kafka.consumer.group-id="join-bench-$RUN_ID" \
+  --notification.throttle.enabled=false \
+  --notification.state.dir="build/join-bench-state" \
+  --logging.level.com.example.notificationservice=WARN > build/join-benchmark.log 2>&1 &
+PID=$!
+
+# Step 3: 모든 주문이 조인되어 발행될 때까지 대기하며 힙 사용량 최대값 기록
+PEAK_HEAP=0
+while true; do
+  COMPLETE=$(metric notification.join.orders result:complete)
+  INCOMPLETE=$(metric notification.join.orders result:incomplete)
+  EVICTED=$(metric notification.join.orders result:evicted)
+  HEAP=$(metric jvm.memory.used area:heap)
+  PEAK_HEAP=$(echo "$HEAP $PEAK_HEAP" | awk '{print ($1 > $2) ? $1 : $2}')
+  DONE=$(echo "$COMPLETE $INCOMPLETE $EVICTED" | awk '{printf "%d", $1 + $2 + $3}')
+  if [ "$DONE" -ge "$COUNT" ]; then
+    break
+  fi
+  if ! kill -0 $PID 2> /dev/null; then
+    echo "❌ notification-service exited - see build/join-benchmark.log"
+    exit 1
+  fi
+  sleep 0.5
+done
+ELAPSED=$(( $(now_ms) - START ))
+
+LATE=$(metric notification.join.items result:late)
+EXPIRED=$(metric notification.join.items result:expired)
+kill $PID
+
+echo ""
+echo "========================================="
+echo "Orders joined:     $COUNT in ${ELAPSED} ms (incl. startup)"
+echo "Throughput:        $(( COUNT * 1000 / (ELAPSED > 0 ? ELAPSED : 1) )) orders/s"
+echo "Complete / Incomplete / Evicted: $COMPLETE / $INCOMPLETE / $EVICTED"
+echo "Late / Expired items:            $LATE / $EXPIRED"
+echo "Peak heap used:    $(echo "$PEAK_HEAP" | awk '{printf "%.1f MB", $1 / 1048576}')"
+echo "========================================="
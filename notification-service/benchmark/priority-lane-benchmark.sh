@@ -0,0 +1,101 @@
+#!/bin/bash
+
+# Priority Lane Benchmark
+# 합성 토픽에 감사 로그용 주문 삭제 이벤트를 대량으로 넣고, 그 사이사이에 배송 시작(SHIPPED) 상태 변경을 섞어
+# lane별 대기 시간을 비교합니다. 두 번째 실행은 상태 변경도 LOW lane으로 보내 우선순위가 없는 경우를 재현합니다.
+# 실행 중인 docker-compose의 Kafka만 필요합니다. (MySQL, Debezium 불필요)
+# 사용법: ./priority-lane-benchmark.sh [삭제 이벤트 수] [상태 변경 1건당 삭제 이벤트 수] [채널 호출 지연(ms)]
+echo "========================================="
+echo "🚦 Priority Lane Benchmark"
+echo "========================================="
+
+cd "$(dirname "$0")/.."
+
+FLOOD="${1:-50000}"
+RATIO="${2:-100}"
+LATENCY_MS="${3:-5}"
+PORT=18082
+METRICS_URL="http://localhost:$PORT/actuator/metrics"
+
+metric() {
+  curl -s "$METRICS_URL/$1?tag=$2" | jq -r ".measurements[] | select(.statistic == \"$3\") | .value" 2>/dev/null
+}
+
+percentile() {
+  curl -s "$METRICS_URL/notification.lane.wait.percentile?tag=lane:$1&tag=phi:$2" | jq -r '.measurements[0].value // 0'
+}
+
+generate_events() {
+  local ts=$(date +%s%3N)
+  seq 1 "$FLOOD" | awk -v ts="$ts" -v ratio="$RATIO" '{
+    printf "{\"op\":\"d\",\"ts_ms\":%d,\"source\":{\"table\":\"orders\",\"ts_ms\":%d},\"before\":{\"id\":%d,\"order_number\":\"FLOOD-%d\",\"customer_name\":\"flood-%d\",\"status\":\"CANCELLED\"}}\n", ts, ts, $1, $1, $1
+    if ($1 % ratio == 0) {
+      id = 1000000000 + $1
+      printf "{\"op\":\"u\",\"ts_ms\":%d,\"source\":{\"table\":\"orders\",\"ts_ms\":%d},\"before\":{\"id\":%d,\"order_number\":\"SHIP-%d\",\"customer_name\":\"vip-%d\",\"status\":\"APPROVED\"},\"after\":{\"id\":%d,\"order_number\":\"SHIP-%d\",\"customer_name\":\"vip-%d\",\"status\":\"SHIPPED\"}}\n", ts, ts, id, $1, $1, id, $1, $1
+    }
+  }'
+}
+
+./gradlew -q bootJar || exit 1
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+run_case() {
+  local name=$1
+  shift
+  local run_id=$(date +%s%N)
+  local topic="bench.lanes.orders.$run_id"
+  local expected=$(( FLOOD + FLOOD / RATIO * 2 ))
+
+  echo ""
+  echo "▶️  $name"
+  generate_events | docker exec -i kafka-cdc kafka-console-producer --bootstrap-server kafka:9092 --topic "$topic" > /dev/null
+
+  java -jar "$JAR" \
+    --server.port=$PORT \
+    --cdc.topics.orders="$topic" \
+    --spring.kafka.consumer.group-id="lane-bench-$run_id" \
+    --notification.sender.simulated-latency="${LATENCY_MS}ms" \
+    --notification.throttle.enabled=false \
+    --notification.state.dir="build/lane-bench-state" \
+    --logging.level.com.example.notificationservice=WARN "$@" > "build/lane-benchmark-$run_id.log" 2>&1 &
+  local pid=$!
+
+  # 모든 발송(삭제 감사 로그 + 상태 변경 이메일/SMS)이 끝날 때까지 대기
+  while true; do
+    local done=0
+    for lane in HIGH NORMAL LOW; do
+      local count=$(metric notification.lane.execution "lane:$lane" COUNT)
+      done=$(echo "$done ${count:-0}" | awk '{printf "%d", $1 + $2}')
+    done
+    if [ "$done" -ge "$expected" ]; then
+      break
+    fi
+    if ! kill -0 $pid 2> /dev/null; then
+      echo "❌ notification-service exited - see build/lane-benchmark-$run_id.log"
+      exit 1
+    fi
+    sleep 1
+  done
+
+  for lane in HIGH LOW; do
+    printf "  %-5s lane wait: p50=%8.1f ms  p99=%8.1f ms  max=%8.1f ms  overflow=%s\n" "$lane" \
+      "$(echo "$(percentile $lane 0.5) * 1000" | bc -l)" \
+      "$(echo "$(percentile $lane 0.99) * 1000" | bc -l)" \
+      "$(echo "$(metric notification.lane.wait "lane:$lane" MAX) * 1000" | bc -l)" \
+      "$(metric notification.lane.overflow "lane:$lane" COUNT)"
+  done
+  echo "  Status change consumed->sent max: $(echo "$(metric notification.freshness "hop:consumed-to-sent&tag=event_type:OrderStatusChangedEvent" MAX) * 1000" | bc -l) ms"
+
+  kill $pid
+  wait $pid 2>/dev/null
+}
+
+run_case "Priority lanes (status changes on HIGH)"
+run_case "No priority (status changes share the LOW lane with the flood)" \
+  --notification.lanes.routes.OrderStatusChangedEvent.SMS=LOW \
+  --notification.lanes.routes.OrderStatusChangedEvent.EMAIL=LOW
+
+echo ""
+echo "========================================="
+echo "✅ Benchmark completed!"
+echo "========================================="
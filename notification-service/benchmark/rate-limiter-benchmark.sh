@@ -0,0 +1,28 @@
+#!/bin/bash
+
+# Customer Rate Limiter Benchmark
+# 수백만 명의 서로 다른 고객 키로 CustomerRateLimiter를 호출해 처리량과 메모리 상한을 확인합니다.
+# 힙을 제한(-Xmx)해서 실행하므로 버킷 저장소가 max-customers에서 멈추지 않으면 OutOfMemoryError로 드러납니다.
+# 인프라 불필요 (Kafka, MySQL 없이 실행)
+# 사용법: ./rate-limiter-benchmark.sh [고객 수] [스레드 수] [패스 수] [max-customers] [힙 크기]
+echo "========================================="
+echo "🪣 Customer Rate Limiter Benchmark"
+echo "========================================="
+
+cd "$(dirname "$0")/.."
+
+CUSTOMERS="${1:-5000000}"
+THREADS="${2:-$(nproc)}"
+PASSES="${3:-3}"
+MAX_CUSTOMERS="${4:-1000000}"
+HEAP="${5:-512m}"
+
+./gradlew -q fastStartJar || exit 1
+
+java -Xmx"$HEAP" -cp build/fast-start/notification-service.jar \
+  benchmark/RateLimiterHarness.java "$CUSTOMERS" "$THREADS" "$PASSES" "$MAX_CUSTOMERS"
+
+echo ""
+echo "========================================="
+echo "✅ Benchmark completed!"
+echo "========================================="
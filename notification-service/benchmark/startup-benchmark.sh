@@ -0,0 +1,93 @@
+#!/bin/bash
+
+# Startup Benchmark
+# 인스턴스를 새로 띄웠을 때 프로세스 시작부터 첫 메시지 발송 완료까지의 시간(time-to-first-processed-message)을
+# 일반 빌드(bootJar)와 빠른 기동 빌드(AOT + CDS + 소비 경로 예열)로 비교합니다.
+# 매 실행마다 새 토픽 / 새 group id에 배송 시작(SHIPPED) 상태 변경 1건을 넣어 두고, HIGH lane 발송 수가 1이 되는 시점을 잽니다.
+# 실행 중인 docker-compose의 Kafka만 필요합니다. (MySQL, Debezium 불필요)
+# 사용법: ./startup-benchmark.sh [모드별 실행 횟수]
+echo "========================================="
+echo "🚀 Startup Benchmark"
+echo "========================================="
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT=18082
+METRICS_URL="http://localhost:$PORT/actuator/metrics"
+
+first_message_sent() {
+  local count=$(curl -s "$METRICS_URL/notification.lane.execution?tag=lane:HIGH" \
+    | jq -r '.measurements[] | select(.statistic == "COUNT") | .value' 2>/dev/null)
+  [ "${count%.*}" -ge 1 ] 2>/dev/null
+}
+
+./gradlew -q bootJar || exit 1
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+./gradlew -q fastStart -PfastStart || exit 1
+
+run_once() {
+  local mode=$1
+  local run_id=$(date +%s%N)
+  local topic="bench.startup.orders.$run_id"
+  local log="$PWD/build/startup-benchmark-$run_id.log"
+  local ts=$(date +%s%3N)
+
+  echo "{\"op\":\"u\",\"ts_ms\":$ts,\"source\":{\"table\":\"orders\",\"ts_ms\":$ts},\"before\":{\"id\":1,\"order_number\":\"START-$run_id\",\"customer_name\":\"startup\",\"status\":\"APPROVED\"},\"after\":{\"id\":1,\"order_number\":\"START-$run_id\",\"customer_name\":\"startup\",\"status\":\"SHIPPED\"}}" \
+    | docker exec -i kafka-cdc kafka-console-producer --bootstrap-server kafka:9092 --topic "$topic" > /dev/null
+
+  local args=(--server.port=$PORT
+    --cdc.topics.orders="$topic"
+    --spring.kafka.consumer.group-id="startup-bench-$run_id"
+    --notification.state.dir="$PWD/build/startup-bench-state/$run_id")
+
+  local start=$(date +%s%3N)
+  if [ "$mode" = "standard" ]; then
+    java -jar "$JAR" "${args[@]}" > "$log" 2>&1 &
+  else
+    (cd build/fast-start && exec java -XX:SharedArchiveFile=notification-service.jsa -Dspring.aot.enabled=true \
+      -jar notification-service.jar --spring.profiles.active=fast-start "${args[@]}") > "$log" 2>&1 &
+  fi
+  local pid=$!
+
+  until first_message_sent; do
+    if ! kill -0 $pid 2> /dev/null; then
+      echo "❌ notification-service exited - see $log" >&2
+      exit 1
+    fi
+    sleep 0.1
+  done
+  local elapsed=$(( $(date +%s%3N) - start ))
+  local started=$(grep -o "Started NotificationServiceApplication in [0-9.]* seconds" "$log" | awk '{print $4}')
+
+  kill $pid
+  wait $pid 2>/dev/null
+  echo "$elapsed ${started:-0}"
+}
+
+run_mode() {
+  local mode=$1
+  local name=$2
+  local total=0
+  local started_total=0
+
+  echo ""
+  echo "▶️  $name"
+  for i in $(seq 1 "$RUNS"); do
+    read elapsed started < <(run_once "$mode") || exit 1
+    [ -z "$elapsed" ] && exit 1
+    printf "  run %d: first message processed after %6d ms (context started in %s s)\n" "$i" "$elapsed" "$started"
+    total=$(( total + elapsed ))
+    started_total=$(echo "$started_total + $started" | bc -l)
+  done
+  printf "  average: %d ms to first processed message, %.3f s to context started\n" \
+    $(( total / RUNS )) "$(echo "$started_total / $RUNS" | bc -l)"
+}
+
+run_mode standard "Standard build (java -jar bootJar)"
+run_mode fast-start "Fast-start build (AOT + CDS archive + consumer warm-up)"
+
+echo ""
+echo "========================================="
+echo "✅ Benchmark completed!"
+echo "========================================="
@@ -0,0 +1,35 @@
+package com.example.notificationservice.config;
+
+import com.example.notificationservice.service.CachingContactDirectory;
+import com.example.notificationservice.service.ContactDirectory;
+import com.example.notificationservice.service.StubContactDirectory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 연락처 조회 설정 (Stub 조회 앞에 비동기 캐시를 둠)
+ */
+@Configuration
+public class ContactDirectoryConfig {
+    
+    @Bean
+    public ContactDirectory contactDirectory(
+            MeterRegistry meterRegistry,
+            @Value("${notification.contacts.cache.maximum-size:100000}") long maximumSize,
+            @Value("${notification.contacts.cache.refresh-after-write:PT10M}") Duration refreshAfterWrite,
+            @Value("${notification.contacts.cache.expire-after-write:PT1H}") Duration expireAfterWrite,
+            @Value("${notification.contacts.cache.lookup-timeout:PT2S}") Duration lookupTimeout) {
+        CachingContactDirectory directory = new CachingContactDirectory(
+                new StubContactDirectory(), maximumSize, refreshAfterWrite, expireAfterWrite, lookupTimeout);
+        
+        // cache.gets{result=hit|miss}, cache.evictions 등 히트율 메트릭 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, directory.getCache(), "customer-contacts", Tags.empty());
+        return directory;
+    }
+}
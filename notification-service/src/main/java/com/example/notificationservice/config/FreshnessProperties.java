@@ -0,0 +1,29 @@
+package com.example.notificationservice.config;
+
+import com.example.notificationservice.model.FreshnessHop;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 데이터 신선도 측정 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "notification.freshness")
+public class FreshnessProperties {
+    
+    /**
+     * 구간별 p99 경보 임계값
+     */
+    private Map<FreshnessHop, Duration> thresholds = new EnumMap<>(FreshnessHop.class);
+    
+    /**
+     * 백분위 계산 윈도우 (이 기간이 지난 측정값은 p50/p99/max에서 제외)
+     */
+    private Duration percentileExpiry = Duration.ofMinutes(5);
+}
@@ -0,0 +1,55 @@
+package com.example.notificationservice.config;
+
+import com.example.notificationservice.model.NotificationChannel;
+import com.example.notificationservice.model.NotificationLane;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 우선순위 lane 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "notification.lanes")
+public class NotificationLaneProperties {
+    
+    /**
+     * 전체 발송 worker 수 (lane 사이에서 공유)
+     */
+    private int workers = 8;
+    
+    /**
+     * lane별 큐 크기와 동시에 사용할 수 있는 최대 worker 수
+     */
+    private Map<NotificationLane, Budget> budgets = new EnumMap<>(NotificationLane.class);
+    
+    /**
+     * 이벤트 타입(클래스 이름)별 / 채널별 lane (지정되지 않은 조합은 defaultLane)
+     */
+    private Map<String, Map<NotificationChannel, NotificationLane>> routes = new HashMap<>();
+    
+    private NotificationLane defaultLane = NotificationLane.NORMAL;
+    
+    /**
+     * 하위 lane의 가장 오래된 작업이 이 시간 이상 기다리면 우선순위와 관계없이 먼저 처리 (기아 방지)
+     */
+    private Duration starvationThreshold = Duration.ofSeconds(5);
+    
+    /**
+     * 큐가 가득 찼을 때 자리가 날 때까지 기다리는 시간 (초과 시 호출 스레드에서 직접 발송)
+     */
+    private Duration overflowWait = Duration.ofSeconds(1);
+    
+    @Data
+    public static class Budget {
+        
+        private int capacity = 10000;
+        private int maxWorkers = 8;
+    }
+}
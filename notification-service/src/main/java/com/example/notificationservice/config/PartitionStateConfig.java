@@ -0,0 +1,41 @@
+package com.example.notificationservice.config;
+
+import com.example.notificationservice.consumer.PartitionStateRebalanceListener;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * 파티션 상태 저장소 설정 (리스너 컨테이너에 리밸런스 리스너 연결)
+ * changelog 토픽은 소스 토픽 파티션 수에 맞춰 PartitionStateStore가 생성합니다.
+ * 상태 저장소를 쓰지 않는 다른 consumer group은 별도 factory를 사용해야 합니다.
+ * (같은 토픽 파티션을 할당받아도 메인 그룹의 상태를 열거나 닫으면 안 됨)
+ */
+@Configuration
+public class PartitionStateConfig {
+    
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> kafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            PartitionStateRebalanceListener rebalanceListener) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.getContainerProperties().setConsumerRebalanceListener(rebalanceListener);
+        return factory;
+    }
+    
+    /**
+     * 감사 전용 consumer group 리스너 컨테이너 (리밸런스 시 상태 저장소 이관 없음)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> auditListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        return factory;
+    }
+}
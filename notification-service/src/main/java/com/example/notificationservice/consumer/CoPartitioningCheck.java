@@ -0,0 +1,66 @@
+package com.example.notificationservice.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * orders / order_items 토픽 co-partitioning 기동 시 확인
+ *
+ * 조인은 두 토픽의 같은 파티션 번호가 같은 인스턴스에 할당된다는 전제(RangeAssignor)로 동작하므로
+ * 파티션 수가 다르면 같은 주문의 상품이 다른 인스턴스로 가서 조인이 조용히 깨집니다.
+ * Debezium의 topic.creation 설정은 새로 만드는 토픽에만 적용되므로, 리스너 컨테이너가 시작되기 전에 실제 파티션 수를 비교해
+ * 다르면 기동을 중단합니다. 토픽이 아직 없거나 브로커에 연결할 수 없으면 경고만 남깁니다.
+ * AOT 빌드에서는 조건부 빈 등록이 빌드 시점에 고정되므로 활성화 여부는 실행 시점 설정으로 판단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoPartitioningCheck implements SmartInitializingSingleton {
+    
+    private final KafkaAdmin kafkaAdmin;
+    
+    @Value("${cdc.source:table}")
+    private String source;
+    
+    @Value("${cdc.topics.orders}")
+    private String ordersTopic;
+    
+    @Value("${cdc.topics.order-items}")
+    private String orderItemsTopic;
+    
+    @Value("${cdc.co-partitioning-check.enabled:true}")
+    private boolean enabled;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled || !"table".equals(source)) {
+            return;
+        }
+        
+        Map<String, TopicDescription> topics;
+        try {
+            topics = kafkaAdmin.describeTopics(ordersTopic, orderItemsTopic);
+        } catch (KafkaException e) {
+            log.warn("Could not verify co-partitioning of {} and {} - {}", ordersTopic, orderItemsTopic, e.getMessage());
+            return;
+        }
+        
+        int orderPartitions = topics.get(ordersTopic).partitions().size();
+        int itemPartitions = topics.get(orderItemsTopic).partitions().size();
+        if (orderPartitions != itemPartitions) {
+            throw new IllegalStateException(String.format(
+                    "Topics %s (%d partitions) and %s (%d partitions) must have the same partition count "
+                            + "for the order/item join - repartition them together before starting",
+                    ordersTopic, orderPartitions, orderItemsTopic, itemPartitions));
+        }
+        log.info("Verified co-partitioning of {} and {} ({} partitions)", ordersTopic, orderItemsTopic, orderPartitions);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.notificationservice.consumer;
+
+import com.example.notificationservice.model.DebeziumEvent;
+import com.example.notificationservice.model.OrderItemDebeziumEvent;
+import com.example.notificationservice.model.OrderOutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 첫 메시지 처리 지연을 줄이기 위한 소비 경로 예열
+ *
+ * 모든 빈 생성 직후, Kafka 리스너 컨테이너가 시작되어 파티션을 할당받기 전에 실행됩니다.
+ * 합성 CDC 메시지로 Jackson 역직렬화기(DebeziumEvent / OrderData 등)와 이벤트 변환 경로를 반복 실행해
+ * 클래스 로딩과 JIT 컴파일을 미리 끝내 둡니다. (알림 발송 등 부수 효과 없음)
+ * AOT 빌드에서는 조건부 빈 등록이 빌드 시점에 고정되므로 활성화 여부는 실행 시점 설정으로 판단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsumerWarmup implements SmartInitializingSingleton {
+    
+    private static final String CREATE_MESSAGE = """
+            {"op":"c","ts_ms":1700000000100,"source":{"db":"order_db","table":"orders","ts_ms":1700000000000},
+             "after":{"id":1,"order_number":"WARMUP-1","customer_name":"warmup","total_amount":"1000.00",
+                      "status":"PENDING","item_count":0,"created_at":1700000000000,"updated_at":1700000000000}}
+            """;
+    
+    private static final String UPDATE_MESSAGE = """
+            {"op":"u","ts_ms":1700000000100,"source":{"db":"order_db","table":"orders","ts_ms":1700000000000},
+             "before":{"id":1,"order_number":"WARMUP-1","customer_name":"warmup","total_amount":"1000.00",
+                       "status":"PENDING","notes":null,"updated_at":1700000000000},
+             "after":{"id":1,"order_number":"WARMUP-1","customer_name":"warmup","total_amount":"1000.00",
+                      "status":"%s","notes":null,"updated_at":1700000000050}}
+            """;
+    
+    private static final String DELETE_MESSAGE = """
+            {"op":"d","ts_ms":1700000000100,"source":{"db":"order_db","table":"orders","ts_ms":1700000000000},
+             "before":{"id":1,"order_number":"WARMUP-1","customer_name":"warmup","status":"CANCELLED"}}
+            """;
+    
+    private static final String ITEM_MESSAGE = """
+            {"op":"c","ts_ms":1700000000100,"source":{"db":"order_db","table":"order_items","ts_ms":1700000000000},
+             "after":{"id":1,"order_id":1,"product_name":"warmup","quantity":1,"unit_price":"1000.00"}}
+            """;
+    
+    private static final String OUTBOX_MESSAGE = """
+            {"eventType":"OrderStatusChanged","orderId":1,"orderNumber":"WARMUP-1","customerName":"warmup",
+             "status":"APPROVED","previousStatus":"PENDING","totalAmount":1000.00,"occurredAt":"2024-01-01T00:00:00"}
+            """;
+    
+    private final ObjectMapper objectMapper;
+    private final OrderEventConverter orderEventConverter;
+    
+    @Value("${notification.warmup.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${notification.warmup.iterations:2000}")
+    private int iterations;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        String unchangedUpdate = UPDATE_MESSAGE.formatted("PENDING");
+        try {
+            // 생성/상태 변경/삭제 분기는 클래스 로딩용으로 한 번씩 (INFO 로그가 남는 경로)
+            orderEventConverter.convert(objectMapper.readValue(CREATE_MESSAGE, DebeziumEvent.class));
+            orderEventConverter.convert(objectMapper.readValue(UPDATE_MESSAGE.formatted("APPROVED"), DebeziumEvent.class));
+            orderEventConverter.convert(objectMapper.readValue(DELETE_MESSAGE, DebeziumEvent.class));
+            
+            // 역직렬화와 변환 공통 경로는 JIT 컴파일 임계값을 넘기도록 반복
+            for (int i = 0; i < iterations; i++) {
+                objectMapper.readValue(CREATE_MESSAGE, DebeziumEvent.class);
+                objectMapper.readValue(DELETE_MESSAGE, DebeziumEvent.class);
+                objectMapper.readValue(ITEM_MESSAGE, OrderItemDebeziumEvent.class);
+                objectMapper.readValue(OUTBOX_MESSAGE, OrderOutboxEvent.class);
+                orderEventConverter.convert(objectMapper.readValue(unchangedUpdate, DebeziumEvent.class));
+            }
+        } catch (Exception e) {
+            // 예열 실패는 기동을 막지 않음 (첫 메시지가 조금 느려질 뿐)
+            log.warn("Consumer warm-up failed", e);
+            return;
+        }
+        log.info("Consumer warm-up completed: {} iterations in {}ms", iterations, System.currentTimeMillis() - startTime);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.notificationservice.consumer;
+
+import com.example.notificationservice.model.DebeziumEvent;
+import com.example.notificationservice.model.OrderDeletedEvent;
+import com.example.notificationservice.model.OrderEvent;
+import com.example.notificationservice.service.FreshnessTracker;
+import com.example.notificationservice.service.NotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 삭제(감사 로그) 전용 Kafka Consumer
+ *
+ * 리스너는 배치의 발송이 끝날 때까지 기다린 뒤 오프셋을 커밋하므로, 삭제 폭주(LOW lane, 적은 worker 예산)가
+ * 고객 알림과 같은 리스너에 섞이면 다음 poll의 SHIPPED 알림이 감사 로그가 끝날 때까지 소비되지 못합니다.
+ * 그래서 orders 토픽을 별도 consumer group으로 한 번 더 구독해 삭제 이벤트만 처리하고,
+ * {@link OrderCdcConsumer}는 삭제 이벤트를 발송하지 않습니다. 이 그룹은 co-partitioning 조인과 무관하므로 orders 토픽만 구독하며,
+ * 파티션 상태 저장소를 쓰지 않으므로 리밸런스 리스너가 없는 컨테이너 factory를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cdc.source", havingValue = "table", matchIfMissing = true)
+public class OrderAuditCdcConsumer {
+    
+    private final ObjectMapper objectMapper;
+    private final OrderEventConverter orderEventConverter;
+    private final NotificationService notificationService;
+    private final FreshnessTracker freshnessTracker;
+    
+    @KafkaListener(
+        topics = "${cdc.topics.orders}",
+        groupId = "${cdc.audit.group-id:notification-service-audit}",
+        containerFactory = "auditListenerContainerFactory",
+        batch = "true"
+    )
+    public void consumeOrderDeletions(List<ConsumerRecord<String, String>> records) {
+        long consumedAt = System.currentTimeMillis();
+        List<OrderEvent> deletions = new ArrayList<>();
+        
+        for (ConsumerRecord<String, String> record : records) {
+            String message = record.value();
+            if (message == null) {
+                continue;
+            }
+            try {
+                DebeziumEvent cdcEvent = objectMapper.readValue(message, DebeziumEvent.class);
+                if (!cdcEvent.isDelete()) {
+                    continue;
+                }
+                
+                OrderEvent orderEvent = orderEventConverter.convert(cdcEvent);
+                if (orderEvent instanceof OrderDeletedEvent) {
+                    freshnessTracker.recordPipeline(cdcEvent, orderEvent, consumedAt);
+                    deletions.add(orderEvent);
+                }
+                
+            } catch (Exception e) {
+                log.error("Failed to process CDC message for audit: {}", message, e);
+            }
+        }
+        
+        // 감사 로그 발송이 끝날 때까지 이 그룹의 오프셋만 멈춤 (고객 알림 리스너와 무관)
+        if (!deletions.isEmpty()) {
+            notificationService.processOrderEvents(deletions);
+        }
+    }
+}
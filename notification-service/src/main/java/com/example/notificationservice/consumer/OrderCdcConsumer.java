@@ -1,112 +1,116 @@
 package com.example.notificationservice.consumer;
 
-import com.example.notificationservice.model.*;
+import com.example.notificationservice.model.DebeziumEvent;
+import com.example.notificationservice.model.OrderCreatedEvent;
+import com.example.notificationservice.model.OrderDeletedEvent;
+import com.example.notificationservice.model.OrderEvent;
+import com.example.notificationservice.service.FreshnessTracker;
 import com.example.notificationservice.service.NotificationService;
+import com.example.notificationservice.service.OrderItemJoiner;
+import com.example.notificationservice.service.OrderStatusDeduplicator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Debezium CDC 이벤트를 소비하는 Kafka Consumer
+ *
+ * orders와 order_items를 한 리스너로 구독합니다. 두 토픽은 order id 키로 co-partitioning되어 있으므로
+ * (파티션 수 동일), 한 consumer가 두 토픽을 함께 구독해야 RangeAssignor가 같은 파티션 번호를 같은 인스턴스에 할당합니다.
+ * 리스너 컨테이너를 나누면 그룹 멤버가 토픽별로 달라져 이 정렬이 보장되지 않습니다.
+ *
+ * 주문 삭제의 감사 로그는 {@link OrderAuditCdcConsumer}(별도 consumer group)가 발송합니다.
+ * 이 리스너는 배치의 발송 완료를 기다리므로, 삭제 폭주가 섞이면 고객 알림이 감사 로그 뒤에서 기다리게 됩니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "cdc.source", havingValue = "table", matchIfMissing = true)
 public class OrderCdcConsumer {
     
     private final ObjectMapper objectMapper;
+    private final OrderEventConverter orderEventConverter;
     private final NotificationService notificationService;
+    private final OrderStatusDeduplicator deduplicator;
+    private final FreshnessTracker freshnessTracker;
+    private final OrderItemJoiner orderItemJoiner;
+    private final OrderItemCdcConsumer orderItemCdcConsumer;
+
+    @Value("${cdc.topics.order-items}")
+    private String orderItemsTopic;
 
     @KafkaListener(
-        topics = "${cdc.topics.orders}",
-        groupId = "${spring.kafka.consumer.group-id}"
+        topics = {"${cdc.topics.orders}", "${cdc.topics.order-items}"},
+        groupId = "${spring.kafka.consumer.group-id}",
+        batch = "true"
     )
-    public void consumeOrderChanges(String message) {
-        try {
-            log.debug("Received CDC message: {}", message);
+    public void consumeOrderChanges(List<ConsumerRecord<String, String>> records) {
+        long consumedAt = System.currentTimeMillis();
+        List<OrderEvent> orderEvents = new ArrayList<>(records.size());
+        OrderStatusDeduplicator.Batch dedup = deduplicator.newBatch();
+        List<ConsumerRecord<String, String>> itemRecords = new ArrayList<>();
+        List<OrderEvent> deletions = new ArrayList<>();
+        
+        for (ConsumerRecord<String, String> record : records) {
+            if (orderItemsTopic.equals(record.topic())) {
+                itemRecords.add(record);
+                continue;
+            }
+            String message = record.value();
+            try {
+                log.debug("Received CDC message: {}", message);
 
-            DebeziumEvent cdcEvent = objectMapper.readValue(message, DebeziumEvent.class);
-            
-            log.info("Processing CDC event - Operation: {}, Table: {}, Timestamp: {}",
-                    cdcEvent.getOp(),
-                    cdcEvent.getSource().getTable(),
-                    cdcEvent.getTimestamp());
+                DebeziumEvent cdcEvent = objectMapper.readValue(message, DebeziumEvent.class);
+                
+                log.info("Processing CDC event - Operation: {}, Table: {}, Timestamp: {}",
+                        cdcEvent.getOp(),
+                        cdcEvent.getSource().getTable(),
+                        cdcEvent.getTimestamp());
 
-            OrderEvent orderEvent = convertToBusinessEvent(cdcEvent);
-            if (orderEvent != null) {
-                notificationService.processOrderEvent(orderEvent);
+                OrderEvent orderEvent = orderEventConverter.convert(cdcEvent);
+                TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                if (orderEvent != null && dedup.accept(partition, orderEvent)) {
+                    // 삭제는 감사 전용 consumer가 발송 - 여기서는 중복 판정 상태만 정리
+                    if (orderEvent instanceof OrderDeletedEvent) {
+                        deletions.add(orderEvent);
+                        continue;
+                    }
+                    freshnessTracker.recordPipeline(cdcEvent, orderEvent, consumedAt);
+                    
+                    // 생성 이벤트는 상품이 모두 도착할 때까지 조인 대기열에서 기다릴 수 있음 (발송 후 조인 쪽에서 상태 기록)
+                    if (orderEvent instanceof OrderCreatedEvent created
+                            && !orderItemJoiner.offerOrder(partition, created, sourceTimestampOf(cdcEvent))) {
+                        continue;
+                    }
+                    orderEvents.add(orderEvent);
+                }
+                
+            } catch (Exception e) {
+                log.error("Failed to process CDC message: {}", message, e);
             }
-            
-        } catch (Exception e) {
-            log.error("Failed to process CDC message: {}", message, e);
         }
+        
+        // 같은 배치의 주문이 먼저 대기열에 들어간 뒤 상품 조인 (조인 대기 상태도 아래 changelog 대기에 포함)
+        orderItemCdcConsumer.offerOrderItems(itemRecords);
+        
+        // 발송이 끝난 이벤트만 중복 판정 상태에 기록하고, changelog 기록까지 끝난 뒤 반환 (오프셋 커밋)
+        List<OrderEvent> notified = new ArrayList<>(notificationService.processOrderEvents(orderEvents));
+        notified.addAll(deletions);
+        dedup.markNotified(notified);
     }
     
-    /**
-     * Debezium CDC 이벤트를 비즈니스 이벤트로 변환
-     */
-    private OrderEvent convertToBusinessEvent(DebeziumEvent cdcEvent) {
-        if (cdcEvent.isCreate()) {
-            // CREATE: after 데이터 사용
-            OrderData order = cdcEvent.getAfter();
-            if (order == null) return null;
-            
-            log.info("Order created: {}", order.getOrderNumber());
-            return OrderCreatedEvent.builder()
-                    .orderId(order.getId())
-                    .orderNumber(order.getOrderNumber())
-                    .customerName(order.getCustomerName())
-                    .status(order.getStatus())
-                    .totalAmount(order.getTotalAmount())
-                    .build();
-            
-        } else if (cdcEvent.isUpdate()) {
-            // UPDATE: before와 after 비교
-            OrderData before = cdcEvent.getBefore();
-            OrderData after = cdcEvent.getAfter();
-            if (before == null || after == null) return null;
-            
-            // 상태 변경인 경우만 처리
-            if (!before.getStatus().equals(after.getStatus())) {
-                log.info("Order status changed: {} {} -> {}",
-                        after.getOrderNumber(),
-                        before.getStatus(),
-                        after.getStatus());
-                return OrderStatusChangedEvent.builder()
-                        .orderId(after.getId())
-                        .orderNumber(after.getOrderNumber())
-                        .customerName(after.getCustomerName())
-                        .status(after.getStatus())
-                        .previousStatus(before.getStatus())
-                        .build();
-            } else {
-                log.debug("Order updated but status unchanged: {}", after.getOrderNumber());
-                return null;
-            }
-            
-        } else if (cdcEvent.isDelete()) {
-            // DELETE: before 데이터 사용
-            OrderData order = cdcEvent.getBefore();
-            if (order == null) return null;
-            
-            log.info("Order deleted: {}", order.getOrderNumber());
-            return OrderDeletedEvent.builder()
-                    .orderId(order.getId())
-                    .orderNumber(order.getOrderNumber())
-                    .customerName(order.getCustomerName())
-                    .status(order.getStatus())
-                    .build();
-            
-        } else if (cdcEvent.isSnapshot()) {
-            // SNAPSHOT: 초기 스냅샷 - 보통 무시
-            log.debug("Snapshot event - skipping");
-            return null;
-            
-        } else {
-            log.warn("Unknown operation type: {}", cdcEvent.getOp());
-            return null;
-        }
+    private long sourceTimestampOf(DebeziumEvent cdcEvent) {
+        return cdcEvent.getSource() != null && cdcEvent.getSource().getTimestamp() != null
+                ? cdcEvent.getSource().getTimestamp()
+                : cdcEvent.getTimestamp();
     }
 }
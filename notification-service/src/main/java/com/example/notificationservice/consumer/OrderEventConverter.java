@@ -0,0 +1,120 @@
+package com.example.notificationservice.consumer;
+
+import com.example.notificationservice.model.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Debezium CDC 이벤트 / Outbox payload -> 비즈니스 이벤트 변환 (실시간 소비와 재처리에서 공통 사용)
+ */
+@Slf4j
+@Component
+public class OrderEventConverter {
+    
+    /**
+     * Debezium CDC 이벤트를 비즈니스 이벤트로 변환
+     */
+    public OrderEvent convert(DebeziumEvent cdcEvent) {
+        if (cdcEvent.isCreate()) {
+            // CREATE: after 데이터 사용
+            OrderData order = cdcEvent.getAfter();
+            if (order == null) return null;
+            
+            log.info("Order created: {}", order.getOrderNumber());
+            return OrderCreatedEvent.builder()
+                    .orderId(order.getId())
+                    .orderNumber(order.getOrderNumber())
+                    .customerName(order.getCustomerName())
+                    .status(order.getStatus())
+                    .totalAmount(order.getTotalAmount())
+                    .itemCount(order.getItemCount())
+                    .build();
+            
+        } else if (cdcEvent.isUpdate()) {
+            // UPDATE: before와 after 비교
+            OrderData before = cdcEvent.getBefore();
+            OrderData after = cdcEvent.getAfter();
+            if (before == null || after == null) return null;
+            
+            // 상태 변경인 경우만 처리
+            if (!before.getStatus().equals(after.getStatus())) {
+                log.info("Order status changed: {} {} -> {}",
+                        after.getOrderNumber(),
+                        before.getStatus(),
+                        after.getStatus());
+                return OrderStatusChangedEvent.builder()
+                        .orderId(after.getId())
+                        .orderNumber(after.getOrderNumber())
+                        .customerName(after.getCustomerName())
+                        .status(after.getStatus())
+                        .previousStatus(before.getStatus())
+                        .build();
+            } else {
+                log.debug("Order updated but status unchanged: {}", after.getOrderNumber());
+                return null;
+            }
+            
+        } else if (cdcEvent.isDelete()) {
+            // DELETE: before 데이터 사용
+            OrderData order = cdcEvent.getBefore();
+            if (order == null) return null;
+            
+            // 아카이브 이관으로 인한 삭제는 감사 대상이 아님
+            if (order.getArchivedAt() != null) {
+                log.debug("Order archived - skipping deletion: {}", order.getOrderNumber());
+                return null;
+            }
+            
+            log.info("Order deleted: {}", order.getOrderNumber());
+            return OrderDeletedEvent.builder()
+                    .orderId(order.getId())
+                    .orderNumber(order.getOrderNumber())
+                    .customerName(order.getCustomerName())
+                    .status(order.getStatus())
+                    .build();
+            
+        } else if (cdcEvent.isSnapshot()) {
+            // SNAPSHOT: 초기 스냅샷 - 보통 무시
+            log.debug("Snapshot event - skipping");
+            return null;
+            
+        } else {
+            log.warn("Unknown operation type: {}", cdcEvent.getOp());
+            return null;
+        }
+    }
+    
+    /**
+     * Outbox payload를 비즈니스 이벤트로 변환 (before/after 비교 없이 그대로 매핑)
+     */
+    public OrderEvent convert(OrderOutboxEvent event) {
+        if (OrderOutboxEvent.ORDER_CREATED.equals(event.getEventType())) {
+            // Outbox payload에는 같은 트랜잭션에서 저장된 상품 목록이 함께 담겨 조인이 필요 없음
+            OrderCreatedEvent created = OrderCreatedEvent.builder()
+                    .orderId(event.getOrderId())
+                    .orderNumber(event.getOrderNumber())
+                    .customerName(event.getCustomerName())
+                    .status(event.getStatus())
+                    .totalAmount(event.getTotalAmount())
+                    .itemCount(event.getItemCount())
+                    .build();
+            if (event.getItems() != null) {
+                created.getItems().addAll(event.getItems());
+            }
+            return created;
+            
+        } else if (OrderOutboxEvent.ORDER_STATUS_CHANGED.equals(event.getEventType())) {
+            return OrderStatusChangedEvent.builder()
+                    .orderId(event.getOrderId())
+                    .orderNumber(event.getOrderNumber())
+                    .customerName(event.getCustomerName())
+                    .status(event.getStatus())
+                    .previousStatus(event.getPreviousStatus())
+                    .build();
+            
+        } else {
+            log.warn("Unknown outbox event type: {}", event.getEventType());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.notificationservice.consumer;
+
+import com.example.notificationservice.model.OrderItemDebeziumEvent;
+import com.example.notificationservice.service.OrderItemJoiner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * order_items 테이블 CDC 이벤트를 주문 생성 이벤트와 조인
+ * orders와 co-partitioning을 유지하기 위해 별도 리스너 없이 OrderCdcConsumer의 배치에서 호출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cdc.source", havingValue = "table", matchIfMissing = true)
+public class OrderItemCdcConsumer {
+    
+    private final ObjectMapper objectMapper;
+    private final OrderItemJoiner orderItemJoiner;
+    
+    public void offerOrderItems(List<ConsumerRecord<String, String>> records) {
+        Map<TopicPartition, List<OrderItemDebeziumEvent>> itemEvents = new LinkedHashMap<>();
+        
+        for (ConsumerRecord<String, String> record : records) {
+            String message = record.value();
+            try {
+                log.debug("Received order item CDC message: {}", message);
+                
+                OrderItemDebeziumEvent cdcEvent = objectMapper.readValue(message, OrderItemDebeziumEvent.class);
+                
+                // 생성 알림에는 주문 생성 시 함께 저장된 상품만 필요
+                if (cdcEvent.isCreate() && cdcEvent.getAfter() != null && cdcEvent.getAfter().getOrderId() != null) {
+                    itemEvents.computeIfAbsent(new TopicPartition(record.topic(), record.partition()),
+                            partition -> new ArrayList<>()).add(cdcEvent);
+                } else if (cdcEvent.isDelete() && cdcEvent.getBefore() != null && cdcEvent.getBefore().getArchivedAt() != null) {
+                    // 주문 아카이브와 함께 이관된 상품 삭제는 감사 대상이 아님
+                    log.debug("Order item archived - skipping deletion: {}", cdcEvent.getBefore().getId());
+                } else {
+                    log.debug("Skipping order item event - Operation: {}", cdcEvent.getOp());
+                }
+                
+            } catch (Exception e) {
+                log.error("Failed to process order item CDC message: {}", message, e);
+            }
+        }
+        
+        itemEvents.forEach(orderItemJoiner::offerItems);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.notificationservice.consumer;
+
+import com.example.notificationservice.model.OrderEvent;
+import com.example.notificationservice.model.OrderOutboxEvent;
+import com.example.notificationservice.service.NotificationService;
+import com.example.notificationservice.service.OrderStatusDeduplicator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Debezium Outbox Event Router가 발행한 비즈니스 이벤트를 소비하는 Kafka Consumer
+ * before/after 비교 없이 payload를 그대로 비즈니스 이벤트로 매핑합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cdc.source", havingValue = "outbox")
+public class OrderOutboxConsumer {
+    
+    private final ObjectMapper objectMapper;
+    private final OrderEventConverter orderEventConverter;
+    private final NotificationService notificationService;
+    private final OrderStatusDeduplicator deduplicator;
+    
+    @KafkaListener(
+        topics = "${cdc.topics.order-outbox}",
+        groupId = "${spring.kafka.consumer.group-id}",
+        batch = "true"
+    )
+    public void consumeOrderEvents(List<ConsumerRecord<String, String>> records) {
+        long consumedAt = System.currentTimeMillis();
+        List<OrderEvent> orderEvents = new ArrayList<>(records.size());
+        OrderStatusDeduplicator.Batch dedup = deduplicator.newBatch();
+        
+        for (ConsumerRecord<String, String> record : records) {
+            String message = record.value();
+            try {
+                log.debug("Received outbox message: {}", message);
+                
+                OrderOutboxEvent outboxEvent = objectMapper.readValue(message, OrderOutboxEvent.class);
+                
+                OrderEvent orderEvent = orderEventConverter.convert(outboxEvent);
+                if (orderEvent != null
+                        && dedup.accept(new TopicPartition(record.topic(), record.partition()), orderEvent)) {
+                    orderEvent.setConsumedAt(consumedAt);
+                    orderEvents.add(orderEvent);
+                }
+                
+            } catch (Exception e) {
+                log.error("Failed to process outbox message: {}", message, e);
+            }
+        }
+        
+        // 발송이 끝난 이벤트만 중복 판정 상태에 기록하고, changelog 기록까지 끝난 뒤 반환 (오프셋 커밋)
+        dedup.markNotified(notificationService.processOrderEvents(orderEvents));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.notificationservice.consumer;
+
+import com.example.notificationservice.service.OrderItemJoiner;
+import com.example.notificationservice.service.PartitionStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 리밸런스 시 파티션 상태 저장소 이관
+ * - 회수: 오프셋 커밋 전에 로컬 flush 후 닫음
+ * - 할당: 레코드를 받기 전에 checkpoint + changelog로 복원
+ * 조인 대기 상태도 같은 저장소에 있으므로 저장소를 연 뒤 복원하고, 닫기 전에 메모리에서 내려놓습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionStateRebalanceListener implements ConsumerAwareRebalanceListener {
+    
+    private final PartitionStateStore stateStore;
+    private final OrderItemJoiner orderItemJoiner;
+    
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        log.info("Partitions revoked: {}", partitions);
+        orderItemJoiner.release(partitions);
+        stateStore.close(partitions);
+    }
+    
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        log.warn("Partitions lost: {}", partitions);
+        orderItemJoiner.release(partitions);
+        stateStore.close(partitions);
+    }
+    
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        log.info("Partitions assigned: {}", partitions);
+        stateStore.open(partitions);
+        orderItemJoiner.restore(partitions);
+    }
+}
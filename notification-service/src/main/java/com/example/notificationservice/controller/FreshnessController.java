@@ -0,0 +1,30 @@
+package com.example.notificationservice.controller;
+
+import com.example.notificationservice.model.FreshnessSummary;
+import com.example.notificationservice.service.FreshnessTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 데이터 신선도 조회 API
+ */
+@RestController
+@RequestMapping("/api/freshness")
+@RequiredArgsConstructor
+public class FreshnessController {
+    
+    private final FreshnessTracker freshnessTracker;
+    
+    /**
+     * 이벤트 타입별 / 구간별 지연 요약 (p50, p99, max)
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Map<String, FreshnessSummary>>> getFreshness() {
+        return ResponseEntity.ok(freshnessTracker.getSummary());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.notificationservice.controller;
+
+import com.example.notificationservice.model.ReplayReport;
+import com.example.notificationservice.model.ReplayRequest;
+import com.example.notificationservice.service.ReplayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * CDC 이벤트 재처리 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/replay")
+@RequiredArgsConstructor
+public class ReplayController {
+    
+    private final ReplayService replayService;
+    
+    /**
+     * 재처리 시작
+     */
+    @PostMapping
+    public ResponseEntity<ReplayReport> startReplay(@RequestBody ReplayRequest request) throws IOException {
+        log.info("Received replay request: {}", request);
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(replayService.start(request));
+    }
+    
+    /**
+     * 재처리 진행 상황 조회
+     */
+    @GetMapping
+    public ResponseEntity<ReplayReport> getReplay() {
+        ReplayReport report = replayService.getReport();
+        return report != null
+                ? ResponseEntity.ok(report)
+                : ResponseEntity.notFound().build();
+    }
+    
+    /**
+     * 재처리 취소
+     */
+    @DeleteMapping
+    public ResponseEntity<ReplayReport> cancelReplay() {
+        return ResponseEntity.ok(replayService.cancel());
+    }
+    
+    /**
+     * 예외 처리 - Illegal Argument
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        log.warn("Invalid replay request: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("message", e.getMessage()));
+    }
+    
+    /**
+     * 예외 처리 - Illegal State (이미 실행 중 / 실행 중 아님)
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalState(IllegalStateException e) {
+        log.warn("Replay state conflict: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(Map.of("message", e.getMessage()));
+    }
+}
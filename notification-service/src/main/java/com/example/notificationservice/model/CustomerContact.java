@@ -0,0 +1,22 @@
+package com.example.notificationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고객 연락처 정보
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerContact {
+    
+    private String customerName;
+    
+    private String email;
+    
+    private String phone;
+}
@@ -0,0 +1,22 @@
+package com.example.notificationservice.model;
+
+/**
+ * 데이터 신선도 측정 구간
+ */
+public enum FreshnessHop {
+    COMMIT_TO_BINLOG("commit-to-binlog"),           // updated_at -> source.ts_ms
+    BINLOG_TO_CONNECTOR("binlog-to-connector"),     // source.ts_ms -> ts_ms
+    CONNECTOR_TO_CONSUMED("connector-to-consumed"), // ts_ms -> 소비 시각
+    CONSUMED_TO_SENT("consumed-to-sent"),           // 소비 시각 -> 알림 발송 완료
+    COMMIT_TO_SENT("commit-to-sent");               // 전체 구간 (SLO)
+    
+    private final String tag;
+    
+    FreshnessHop(String tag) {
+        this.tag = tag;
+    }
+    
+    public String getTag() {
+        return tag;
+    }
+}
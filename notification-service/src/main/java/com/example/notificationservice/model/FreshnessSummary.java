@@ -0,0 +1,28 @@
+package com.example.notificationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 구간별 지연 요약 (milliseconds)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreshnessSummary {
+    
+    private long count;
+    
+    private double p50;
+    
+    private double p99;
+    
+    private double max;
+    
+    private Long thresholdMillis;
+    
+    private boolean breached;
+}
@@ -0,0 +1,10 @@
+package com.example.notificationservice.model;
+
+/**
+ * 알림 발송 채널
+ */
+public enum NotificationChannel {
+    EMAIL,
+    SMS,
+    AUDIT
+}
@@ -0,0 +1,10 @@
+package com.example.notificationservice.model;
+
+/**
+ * 알림 발송 우선순위 lane (선언 순서 = 우선순위)
+ */
+public enum NotificationLane {
+    HIGH,       // 배송 SMS, 상태 변경 이메일 등 시간이 중요한 고객 알림
+    NORMAL,     // 주문 접수 이메일, 요약 이메일
+    LOW         // 감사 로그 등 내부 작업
+}
@@ -3,22 +3,35 @@ package com.example.notificationservice.model;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 주문 생성 이벤트
+ * (조인 대기 중인 주문은 파티션 상태 저장소에 JSON으로 보관되므로 역직렬화용 기본 생성자 포함)
  */
 @Data
+@NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class OrderCreatedEvent extends OrderEvent {
     
     private BigDecimal totalAmount;
     
+    /**
+     * 주문 상품 수와 조인된 상품 목록 (itemCount보다 적으면 조인 대기 시간 안에 모두 도착하지 않은 것)
+     */
+    private Integer itemCount;
+    
+    private List<OrderItemData> items = new ArrayList<>();
+    
     @Builder
     public OrderCreatedEvent(Long orderId, String orderNumber, String customerName, 
-                            String status, BigDecimal totalAmount) {
+                            String status, BigDecimal totalAmount, Integer itemCount) {
         super(orderId, orderNumber, customerName, status);
         this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
     }
 }
@@ -34,9 +34,21 @@ public class OrderData {
     
     private String notes;
     
+    /**
+     * 주문 상품 수 (order_items 조인 완료 판단용, 이전 주문은 null)
+     */
+    @JsonProperty("item_count")
+    private Integer itemCount;
+    
     @JsonProperty("created_at")
     private Long createdAt;
     
     @JsonProperty("updated_at")
     private Long updatedAt;
+    
+    /**
+     * 아카이브 이관 시각 (이관으로 인한 삭제인 경우에만 값이 있음)
+     */
+    @JsonProperty("archived_at")
+    private Long archivedAt;
 }
@@ -1,19 +1,38 @@
 package com.example.notificationservice.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * 주문 비즈니스 이벤트 (추상 클래스)
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public abstract class OrderEvent {
     
     private Long orderId;
     private String orderNumber;
     private String customerName;
     private String status;
+    
+    /**
+     * 파이프라인 시각 (데이터 신선도 측정용, epoch millis)
+     * committedAt: 주문 행 커밋 시각 (updated_at), consumedAt: Kafka에서 소비한 시각
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Long committedAt;
+    
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Long consumedAt;
+    
+    protected OrderEvent(Long orderId, String orderNumber, String customerName, String status) {
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.customerName = customerName;
+        this.status = status;
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.notificationservice.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * CDC 이벤트의 주문 상품 데이터
+ * (Outbox OrderCreated payload의 상품 목록도 camelCase 이름으로 같은 타입에 매핑)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderItemData {
+    
+    private Long id;
+    
+    @JsonProperty("order_id")
+    @JsonAlias("orderId")
+    private Long orderId;
+    
+    @JsonProperty("product_name")
+    @JsonAlias("productName")
+    private String productName;
+    
+    private Integer quantity;
+    
+    @JsonProperty("unit_price")
+    @JsonAlias("unitPrice")
+    private BigDecimal unitPrice;
+    
+    @JsonProperty("created_at")
+    @JsonAlias("createdAt")
+    private Long createdAt;
+    
+    /**
+     * 아카이브 이관 표시 (삭제 이벤트의 before 이미지에만 존재)
+     */
+    @JsonProperty("archived_at")
+    private Long archivedAt;
+}
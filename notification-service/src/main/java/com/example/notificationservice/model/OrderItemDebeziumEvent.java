@@ -0,0 +1,44 @@
+package com.example.notificationservice.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * order_items 테이블 CDC 이벤트
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderItemDebeziumEvent {
+    
+    private OrderItemData before;
+    
+    private OrderItemData after;
+    
+    private SourceMetadata source;
+    
+    private String op;
+    
+    @JsonProperty("ts_ms")
+    private Long timestamp;
+    
+    /**
+     * CREATE 이벤트 체크
+     */
+    public boolean isCreate() {
+        return "c".equals(op);
+    }
+    
+    /**
+     * DELETE 이벤트 체크
+     */
+    public boolean isDelete() {
+        return "d".equals(op);
+    }
+}
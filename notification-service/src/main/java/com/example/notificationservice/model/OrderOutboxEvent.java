@@ -0,0 +1,44 @@
+package com.example.notificationservice.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Outbox 이벤트 payload (order-service가 비즈니스 이벤트 형태로 발행)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderOutboxEvent {
+    
+    public static final String ORDER_CREATED = "OrderCreated";
+    public static final String ORDER_STATUS_CHANGED = "OrderStatusChanged";
+    
+    private String eventType;
+    
+    private Long orderId;
+    
+    private String orderNumber;
+    
+    private String customerName;
+    
+    private String status;
+    
+    private String previousStatus;
+    
+    private BigDecimal totalAmount;
+    
+    private Integer itemCount;
+    
+    private List<OrderItemData> items;
+    
+    private String occurredAt;
+}
@@ -0,0 +1,10 @@
+package com.example.notificationservice.model;
+
+/**
+ * 재처리 결과 발송 방식
+ */
+public enum ReplayMode {
+    REAL,       // 실제 발송 채널로 발송
+    DRY_RUN,    // 발송하지 않고 기록만
+    FILE        // 발송 내용을 파일로 기록
+}
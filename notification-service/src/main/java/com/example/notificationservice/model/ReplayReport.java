@@ -0,0 +1,51 @@
+package com.example.notificationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CDC 이벤트 재처리 진행 상황 / 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayReport {
+    
+    public enum Status { RUNNING, COMPLETED, CANCELLED, FAILED }
+    
+    private Status status;
+    
+    private ReplayMode mode;
+    
+    private String groupId;
+    
+    private Long fromTimestamp;
+    
+    private Long toTimestamp;
+    
+    private int partitions;
+    
+    private int workers;
+    
+    private long eventsProcessed;
+    
+    private double eventsPerSecond;
+    
+    private long elapsedMillis;
+    
+    private Map<String, Long> eventsByType;
+    
+    private Map<String, Long> sentByChannel;
+    
+    private List<String> samples;
+    
+    private String outputFile;
+    
+    private String error;
+}
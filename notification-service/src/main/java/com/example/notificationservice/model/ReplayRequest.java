@@ -0,0 +1,26 @@
+package com.example.notificationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * CDC 이벤트 재처리 요청 (ts_ms 기준 구간)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayRequest {
+    
+    private Long fromTimestamp;
+    
+    private Long toTimestamp;
+    
+    @Builder.Default
+    private ReplayMode mode = ReplayMode.DRY_RUN;
+    
+    @Builder.Default
+    private int parallelism = 4;
+}
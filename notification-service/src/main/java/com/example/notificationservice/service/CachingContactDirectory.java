@@ -0,0 +1,101 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.model.CustomerContact;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 연락처 비동기 캐시
+ * - 크기 제한 + refresh-ahead (만료 전에 백그라운드 갱신)
+ * - 같은 고객에 대한 동시 miss는 하나의 조회로 합쳐짐
+ * - 배치 단위 prefetch는 delegate의 일괄 조회 한 번으로 처리
+ */
+@Slf4j
+public class CachingContactDirectory implements ContactDirectory {
+    
+    private final ContactDirectory delegate;
+    private final AsyncLoadingCache<String, CustomerContact> cache;
+    private final Duration lookupTimeout;
+    
+    public CachingContactDirectory(ContactDirectory delegate, long maximumSize, Duration refreshAfterWrite,
+                                   Duration expireAfterWrite, Duration lookupTimeout) {
+        this.delegate = delegate;
+        this.lookupTimeout = lookupTimeout;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync(new ContactLoader());
+    }
+    
+    public AsyncLoadingCache<String, CustomerContact> getCache() {
+        return cache;
+    }
+    
+    @Override
+    public CustomerContact lookup(String customerName) {
+        try {
+            return cache.get(customerName).get(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up contact for " + customerName, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to look up contact for " + customerName, e);
+        }
+    }
+    
+    @Override
+    public Map<String, CustomerContact> lookupAll(Collection<String> customerNames) {
+        try {
+            return cache.getAll(customerNames).get(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up contacts", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to look up " + customerNames.size() + " contacts", e);
+        }
+    }
+    
+    @Override
+    public void prefetch(Collection<String> customerNames) {
+        if (customerNames.isEmpty()) {
+            return;
+        }
+        try {
+            lookupAll(customerNames);
+        } catch (IllegalStateException e) {
+            // prefetch 실패 시 개별 조회에서 다시 시도
+            log.warn("Contact prefetch failed for {} customers: {}", customerNames.size(), e.getMessage());
+        }
+    }
+    
+    /**
+     * 캐시 로더 (단건 / 일괄 조회 모두 delegate에 위임)
+     */
+    private class ContactLoader implements AsyncCacheLoader<String, CustomerContact> {
+        
+        @Override
+        public CompletableFuture<CustomerContact> asyncLoad(String customerName, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> delegate.lookup(customerName), executor);
+        }
+        
+        @Override
+        public CompletableFuture<Map<String, CustomerContact>> asyncLoadAll(Set<? extends String> customerNames,
+                                                                           Executor executor) {
+            return CompletableFuture.supplyAsync(() -> delegate.lookupAll(Set.copyOf(customerNames)), executor);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.model.CustomerContact;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 고객 연락처 조회
+ */
+public interface ContactDirectory {
+    
+    /**
+     * 고객 한 명의 연락처 조회
+     */
+    CustomerContact lookup(String customerName);
+    
+    /**
+     * 여러 고객의 연락처 일괄 조회
+     */
+    Map<String, CustomerContact> lookupAll(Collection<String> customerNames);
+    
+    /**
+     * 배치 처리 전에 연락처를 미리 조회 (캐시 구현에서 사용)
+     */
+    default void prefetch(Collection<String> customerNames) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.notificationservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고객별 알림 발송 속도 제한 (token bucket)
+ * 
+ * - 버킷 상태는 GCRA 방식으로 long 하나(다음 토큰 도착 예정 시각)에 담아 CAS로 갱신 → lock-free
+ * - 버킷 저장소는 별도 striped 구조 대신 Caffeine 사용 (ConcurrentHashMap 기반, 조회는 lock 없음)
+ * - 마지막 사용 후 rate × burst 시간이 지난 버킷은 가득 찬 상태이므로 만료시켜도 동작이 같음 (expireAfterAccess)
+ * - 크기 제한으로 버킷을 내쫓지 않음: 제한 중인 고객이 가득 찬 버킷을 다시 받게 되기 때문
+ *   대신 활성 버킷이 max-customers에 도달하면 새 고객은 제한된 것으로 처리하고 초과 건수를 집계 (메모리 상한 유지)
+ */
+@Component
+public class CustomerRateLimiter {
+    
+    private static final long CLEANUP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+    
+    private final Cache<String, TokenBucket> buckets;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long maxCustomers;
+    private final Counter overflowCounter;
+    private final AtomicLong lastCleanupNanos = new AtomicLong(System.nanoTime());
+    
+    public CustomerRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${notification.throttle.rate:10}") long rate,
+            @Value("${notification.throttle.period:PT1H}") Duration period,
+            @Value("${notification.throttle.burst:5}") long burst,
+            @Value("${notification.throttle.max-customers:1000000}") long maxCustomers) {
+        if (rate < 1 || burst < 1) {
+            throw new IllegalArgumentException("notification.throttle.rate and burst must be at least 1");
+        }
+        this.emissionIntervalNanos = period.toNanos() / rate;
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxCustomers = maxCustomers;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofNanos(emissionIntervalNanos * burst))
+                .build();
+        
+        Gauge.builder("notification.throttle.customers", buckets, Cache::estimatedSize)
+                .description("Customers with an active rate-limit bucket")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("notification.throttle.overflow")
+                .description("New customers throttled because max-customers buckets were active")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 고객의 토큰 하나 사용 시도 (허용되면 true)
+     * 활성 버킷이 max-customers 이상이면 버킷이 없는 고객은 제한된 것으로 처리 (동시 생성으로 약간 넘을 수 있음)
+     */
+    public boolean tryAcquire(String customerName) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.getIfPresent(customerName);
+        if (bucket == null) {
+            if (isFull(now)) {
+                overflowCounter.increment();
+                return false;
+            }
+            bucket = buckets.get(customerName, key -> new TokenBucket());
+        }
+        return bucket.tryAcquire(now);
+    }
+    
+    /**
+     * 활성 버킷 수가 상한에 도달했는지 (만료 정리가 밀려 있을 수 있으므로 최대 초당 한 번 정리 후 재확인)
+     */
+    private boolean isFull(long now) {
+        if (buckets.estimatedSize() < maxCustomers) {
+            return false;
+        }
+        long lastCleanup = lastCleanupNanos.get();
+        if (now - lastCleanup >= CLEANUP_INTERVAL_NANOS && lastCleanupNanos.compareAndSet(lastCleanup, now)) {
+            buckets.cleanUp();
+        }
+        return buckets.estimatedSize() >= maxCustomers;
+    }
+    
+    /**
+     * 토큰 버킷 (theoretical arrival time 하나로 상태 표현)
+     */
+    private class TokenBucket {
+        
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+        
+        boolean tryAcquire(long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long tat = current == Long.MIN_VALUE ? now : Math.max(current, now);
+                if (tat - now > burstToleranceNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(current, tat + emissionIntervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
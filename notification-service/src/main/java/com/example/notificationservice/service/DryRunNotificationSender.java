@@ -0,0 +1,30 @@
+package com.example.notificationservice.service;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dry-run 발송 채널: 채널별 건수와 앞부분 일부 샘플만 메모리에 기록합니다.
+ */
+public class DryRunNotificationSender extends RecordingNotificationSender {
+    
+    private final int maxSamples;
+    private final AtomicInteger sampled = new AtomicInteger();
+    private final ConcurrentLinkedQueue<String> samples = new ConcurrentLinkedQueue<>();
+    
+    public DryRunNotificationSender(int maxSamples) {
+        this.maxSamples = maxSamples;
+    }
+    
+    @Override
+    protected void write(String line) {
+        if (sampled.getAndIncrement() < maxSamples) {
+            samples.add(line);
+        }
+    }
+    
+    public List<String> getSamples() {
+        return List.copyOf(samples);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.notificationservice.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 파일 발송 채널: 발송 내용을 한 줄씩 파일에 기록합니다.
+ */
+public class FileNotificationSender extends RecordingNotificationSender implements Closeable {
+    
+    private final Path file;
+    private final BufferedWriter writer;
+    
+    public FileNotificationSender(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.file = file;
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+    
+    public Path getFile() {
+        return file;
+    }
+    
+    @Override
+    protected synchronized void write(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write replay output to " + file, e);
+        }
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.config.FreshnessProperties;
+import com.example.notificationservice.model.DebeziumEvent;
+import com.example.notificationservice.model.FreshnessHop;
+import com.example.notificationservice.model.FreshnessSummary;
+import com.example.notificationservice.model.OrderData;
+import com.example.notificationservice.model.OrderEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL 커밋부터 알림 발송까지의 구간별 지연(데이터 신선도) 측정
+ * 
+ * Micrometer Timer의 클라이언트 측 백분위는 HdrHistogram 기반 고정 크기 윈도우로 계산되므로
+ * 이벤트 수와 관계없이 메모리 사용량이 일정합니다.
+ * 구간별 타이머: notification.freshness{hop, event_type}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FreshnessTracker {
+    
+    private static final String METRIC_NAME = "notification.freshness";
+    
+    private final MeterRegistry meterRegistry;
+    private final FreshnessProperties properties;
+    
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Set<TimerKey> breached = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * 소비 시점까지의 구간 기록 (commit -> binlog -> connector -> consumed)
+     */
+    public void recordPipeline(DebeziumEvent cdcEvent, OrderEvent event, long consumedAt) {
+        OrderData row = cdcEvent.getAfter();
+        Long committedAt = row != null ? row.getUpdatedAt() : null;
+        Long binlogAt = cdcEvent.getSource() != null ? cdcEvent.getSource().getTimestamp() : null;
+        Long connectorAt = cdcEvent.getTimestamp();
+        
+        event.setCommittedAt(committedAt);
+        event.setConsumedAt(consumedAt);
+        
+        String eventType = eventType(event);
+        record(eventType, FreshnessHop.COMMIT_TO_BINLOG, committedAt, binlogAt);
+        record(eventType, FreshnessHop.BINLOG_TO_CONNECTOR, binlogAt, connectorAt);
+        record(eventType, FreshnessHop.CONNECTOR_TO_CONSUMED, connectorAt, consumedAt);
+    }
+    
+    /**
+     * 알림 발송 완료 구간 기록 (consumed -> sent, commit -> sent)
+     */
+    public void recordSent(OrderEvent event) {
+        long sentAt = System.currentTimeMillis();
+        String eventType = eventType(event);
+        record(eventType, FreshnessHop.CONSUMED_TO_SENT, event.getConsumedAt(), sentAt);
+        record(eventType, FreshnessHop.COMMIT_TO_SENT, event.getCommittedAt(), sentAt);
+    }
+    
+    /**
+     * 이벤트 타입별 / 구간별 p50, p99, max 요약
+     */
+    public Map<String, Map<String, FreshnessSummary>> getSummary() {
+        Map<String, Map<String, FreshnessSummary>> summary = new TreeMap<>();
+        timers.forEach((key, timer) -> summary
+                .computeIfAbsent(key.eventType(), type -> new TreeMap<>())
+                .put(key.hop().getTag(), summarize(timer, key.hop())));
+        return summary;
+    }
+    
+    /**
+     * 임계값 점검 (p99 기준) - 초과 시 경보 로그와 카운터 기록
+     */
+    @Scheduled(fixedDelayString = "${notification.freshness.alert-check-interval:PT30S}")
+    public void checkThresholds() {
+        timers.forEach((key, timer) -> {
+            FreshnessSummary hopSummary = summarize(timer, key.hop());
+            if (hopSummary.isBreached()) {
+                Counter.builder(METRIC_NAME + ".alerts")
+                        .tag("hop", key.hop().getTag())
+                        .tag("event_type", key.eventType())
+                        .register(meterRegistry)
+                        .increment();
+                if (breached.add(key)) {
+                    log.warn("🚨 Freshness SLO breached - {} [{}]: p99 {} ms > threshold {} ms",
+                            key.hop().getTag(), key.eventType(),
+                            Math.round(hopSummary.getP99()), hopSummary.getThresholdMillis());
+                }
+            } else if (breached.remove(key)) {
+                log.info("✅ Freshness SLO recovered - {} [{}]: p99 {} ms",
+                        key.hop().getTag(), key.eventType(), Math.round(hopSummary.getP99()));
+            }
+        });
+    }
+    
+    private void record(String eventType, FreshnessHop hop, Long from, Long to) {
+        if (from == null || to == null) {
+            return;
+        }
+        long latency = to - from;
+        if (latency < 0) {
+            // 호스트 간 시계 차이 또는 시간대 불일치 - 0으로 기록하면 백분위가 낮아 보이므로 타이머에서 제외하고 별도 집계
+            meterRegistry.counter(METRIC_NAME + ".clock_skew", "hop", hop.getTag(), "event_type", eventType).increment();
+            log.debug("Negative {} latency for {}: {} ms", hop.getTag(), eventType, latency);
+            return;
+        }
+        timer(eventType, hop).record(latency, TimeUnit.MILLISECONDS);
+    }
+    
+    private Timer timer(String eventType, FreshnessHop hop) {
+        return timers.computeIfAbsent(new TimerKey(eventType, hop), key -> Timer.builder(METRIC_NAME)
+                .description("Latency between pipeline stages, from MySQL commit to notification sent")
+                .tag("hop", hop.getTag())
+                .tag("event_type", eventType)
+                .publishPercentiles(0.5, 0.99)
+                .distributionStatisticExpiry(properties.getPercentileExpiry())
+                .register(meterRegistry));
+    }
+    
+    private FreshnessSummary summarize(Timer timer, FreshnessHop hop) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == 0.5) {
+                p50 = value.value(TimeUnit.MILLISECONDS);
+            } else if (value.percentile() == 0.99) {
+                p99 = value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        
+        Duration threshold = properties.getThresholds().get(hop);
+        return FreshnessSummary.builder()
+                .count(timer.count())
+                .p50(p50)
+                .p99(p99)
+                .max(snapshot.max(TimeUnit.MILLISECONDS))
+                .thresholdMillis(threshold != null ? threshold.toMillis() : null)
+                .breached(threshold != null && p99 > threshold.toMillis())
+                .build();
+    }
+    
+    private String eventType(OrderEvent event) {
+        return event.getClass().getSimpleName();
+    }
+    
+    private record TimerKey(String eventType, FreshnessHop hop) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.model.NotificationChannel;
+import com.example.notificationservice.model.NotificationLane;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 이벤트 하나의 발송을 모아 채널별 우선순위 lane으로 보내는 채널
+ * 핸들러가 호출한 발송은 dispatch 시점에 각 lane에 등록되고, 모두 끝나면 dispatch가 반환한 future가 완료됩니다.
+ */
+public class LaneNotificationSender implements NotificationSender {
+    
+    private final PriorityLaneDispatcher dispatcher;
+    private final NotificationSender target;
+    private final String eventType;
+    private final List<PendingSend> sends = new ArrayList<>();
+    
+    public LaneNotificationSender(PriorityLaneDispatcher dispatcher, NotificationSender target, String eventType) {
+        this.dispatcher = dispatcher;
+        this.target = target;
+        this.eventType = eventType;
+    }
+    
+    @Override
+    public void sendEmail(String to, String subject, String body) {
+        add(NotificationChannel.EMAIL, () -> target.sendEmail(to, subject, body));
+    }
+    
+    @Override
+    public void sendSms(String to, String message) {
+        add(NotificationChannel.SMS, () -> target.sendSms(to, message));
+    }
+    
+    @Override
+    public void logToAuditSystem(String action, Long orderId, String details) {
+        add(NotificationChannel.AUDIT, () -> target.logToAuditSystem(action, orderId, details));
+    }
+    
+    /**
+     * 모은 발송을 lane에 등록
+     * 반환된 future는 모든 발송이 끝나면 완료되고, 하나라도 실패했으면 그 예외로 실패합니다. (발송이 없으면 바로 완료)
+     */
+    public CompletableFuture<Void> dispatch() {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        if (sends.isEmpty()) {
+            completion.complete(null);
+            return completion;
+        }
+        
+        AtomicInteger remaining = new AtomicInteger(sends.size());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (PendingSend send : sends) {
+            dispatcher.submit(send.lane(), () -> {
+                try {
+                    send.task().run();
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                    throw e;
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        if (failure.get() != null) {
+                            completion.completeExceptionally(failure.get());
+                        } else {
+                            completion.complete(null);
+                        }
+                    }
+                }
+            });
+        }
+        return completion;
+    }
+    
+    private void add(NotificationChannel channel, Runnable task) {
+        sends.add(new PendingSend(dispatcher.laneFor(eventType, channel), task));
+    }
+    
+    private record PendingSend(NotificationLane lane, Runnable task) {
+    }
+}
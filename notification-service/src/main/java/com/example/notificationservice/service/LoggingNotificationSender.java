@@ -0,0 +1,62 @@
+package com.example.notificationservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 실제 발송 채널 (실제 구현에서는 이메일 / SMS / 감사 시스템 호출)
+ */
+@Slf4j
+@Component
+public class LoggingNotificationSender implements NotificationSender {
+    
+    /**
+     * 외부 발송 API 호출 시간 흉내 (부하 측정용, 기본 0)
+     */
+    @Value("${notification.sender.simulated-latency:PT0S}")
+    private Duration simulatedLatency;
+    
+    /**
+     * 이메일 발송 (실제 구현에서는 이메일 서비스 호출)
+     */
+    @Override
+    public void sendEmail(String to, String subject, String body) {
+        log.info("📧 Sending email to {}: {}", to, subject);
+        simulateLatency();
+        // TODO: 실제 이메일 발송 구현 (SendGrid, AWS SES 등)
+    }
+    
+    /**
+     * SMS 발송 (실제 구현에서는 SMS 서비스 호출)
+     */
+    @Override
+    public void sendSms(String to, String message) {
+        log.info("📱 Sending SMS to {}: {}", to, message);
+        simulateLatency();
+        // TODO: 실제 SMS 발송 구현 (Twilio, AWS SNS 등)
+    }
+    
+    /**
+     * 감사 로그 (실제 구현에서는 감사 시스템에 로깅)
+     */
+    @Override
+    public void logToAuditSystem(String action, Long orderId, String details) {
+        log.info("📝 Audit log: [{}] Order {} - {}", action, orderId, details);
+        simulateLatency();
+        // TODO: 실제 감사 시스템 연동 (Elasticsearch, DataDog 등)
+    }
+    
+    private void simulateLatency() {
+        if (simulatedLatency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(simulatedLatency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
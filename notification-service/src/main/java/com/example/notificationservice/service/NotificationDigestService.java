@@ -0,0 +1,133 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.model.NotificationChannel;
+import com.example.notificationservice.model.NotificationLane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 속도 제한에 걸린 알림을 고객별로 모아 주기적으로 요약 이메일 한 통으로 발송
+ * 고객 수와 고객당 보관 건수 모두 상한이 있어 메모리 사용량이 제한됩니다.
+ */
+@Slf4j
+@Service
+public class NotificationDigestService {
+    
+    /**
+     * lane 라우팅에서 요약 이메일을 가리키는 이벤트 타입
+     */
+    public static final String DIGEST_EVENT_TYPE = "NotificationDigest";
+    
+    private final ContactDirectory contactDirectory;
+    private final LoggingNotificationSender sender;
+    private final PriorityLaneDispatcher laneDispatcher;
+    private final NotificationLane digestLane;
+    private final Map<String, Digest> digests = new ConcurrentHashMap<>();
+    private final int maxCustomers;
+    private final int maxEntriesPerCustomer;
+    private final Counter digestedCounter;
+    private final Counter droppedCounter;
+    
+    public NotificationDigestService(
+            ContactDirectory contactDirectory,
+            LoggingNotificationSender sender,
+            PriorityLaneDispatcher laneDispatcher,
+            MeterRegistry meterRegistry,
+            @Value("${notification.throttle.digest.max-customers:100000}") int maxCustomers,
+            @Value("${notification.throttle.digest.max-entries-per-customer:50}") int maxEntriesPerCustomer) {
+        this.contactDirectory = contactDirectory;
+        this.sender = sender;
+        this.laneDispatcher = laneDispatcher;
+        this.digestLane = laneDispatcher.laneFor(DIGEST_EVENT_TYPE, NotificationChannel.EMAIL);
+        this.maxCustomers = maxCustomers;
+        this.maxEntriesPerCustomer = maxEntriesPerCustomer;
+        this.digestedCounter = meterRegistry.counter("notification.digested");
+        this.droppedCounter = meterRegistry.counter("notification.digest.dropped");
+        
+        Gauge.builder("notification.digest.pending.customers", digests, Map::size)
+                .description("Customers with notifications waiting for the next digest")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 요약 대상 알림 추가
+     */
+    public void add(String customerName, String line) {
+        boolean[] dropped = {false};
+        // compute는 키 단위로 원자적이므로 flush의 remove와 경합해도 알림이 유실되지 않음
+        digests.compute(customerName, (key, digest) -> {
+            if (digest == null) {
+                if (digests.size() >= maxCustomers) {
+                    dropped[0] = true;
+                    return null;
+                }
+                digest = new Digest();
+            }
+            digest.add(line, maxEntriesPerCustomer);
+            return digest;
+        });
+        
+        if (dropped[0]) {
+            droppedCounter.increment();
+            log.warn("Digest buffer full ({} customers) - dropping notification for {}",
+                    maxCustomers, customerName);
+        }
+    }
+    
+    /**
+     * 고객별 요약 이메일 발송 (주기적)
+     */
+    @Scheduled(fixedDelayString = "${notification.throttle.digest.interval:PT15M}")
+    public void flush() {
+        for (String customerName : List.copyOf(digests.keySet())) {
+            Digest digest = digests.remove(customerName);
+            if (digest == null) {
+                continue;
+            }
+            
+            int total = digest.lines.size() + digest.overflow;
+            StringBuilder body = new StringBuilder();
+            digest.lines.forEach(line -> body.append("- ").append(line).append('\n'));
+            if (digest.overflow > 0) {
+                body.append("외 ").append(digest.overflow).append("건");
+            }
+            
+            try {
+                String email = contactDirectory.lookup(customerName).getEmail();
+                laneDispatcher.submit(digestLane, () -> {
+                    sender.sendEmail(email, "주문 알림 요약 (" + total + "건)", body.toString());
+                    digestedCounter.increment();
+                });
+            } catch (Exception e) {
+                log.error("Failed to send notification digest to {}", customerName, e);
+            }
+        }
+    }
+    
+    /**
+     * 고객 한 명의 요약 버퍼 (최대 건수 초과분은 개수만 집계, 접근은 compute/remove로 직렬화됨)
+     */
+    private static class Digest {
+        
+        private final List<String> lines = new ArrayList<>();
+        private int overflow;
+        
+        void add(String line, int maxEntries) {
+            if (lines.size() < maxEntries) {
+                lines.add(line);
+            } else {
+                overflow++;
+            }
+        }
+    }
+}
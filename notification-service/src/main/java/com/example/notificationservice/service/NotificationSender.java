@@ -0,0 +1,13 @@
+package com.example.notificationservice.service;
+
+/**
+ * 알림 발송 채널 (이메일 / SMS / 감사 로그)
+ */
+public interface NotificationSender {
+    
+    void sendEmail(String to, String subject, String body);
+    
+    void sendSms(String to, String message);
+    
+    void logToAuditSystem(String action, Long orderId, String details);
+}
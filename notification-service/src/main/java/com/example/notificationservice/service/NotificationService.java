@@ -3,31 +3,134 @@ package com.example.notificationservice.service;
 import com.example.notificationservice.model.OrderCreatedEvent;
 import com.example.notificationservice.model.OrderDeletedEvent;
 import com.example.notificationservice.model.OrderEvent;
+import com.example.notificationservice.model.OrderItemData;
 import com.example.notificationservice.model.OrderStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class NotificationService {
     
+    private final ContactDirectory contactDirectory;
+    private final LoggingNotificationSender defaultSender;
+    private final FreshnessTracker freshnessTracker;
+    private final CustomerRateLimiter customerRateLimiter;
+    private final NotificationDigestService digestService;
+    private final MeterRegistry meterRegistry;
+    private final PriorityLaneDispatcher laneDispatcher;
+    
+    @Value("${notification.throttle.enabled:true}")
+    private boolean throttleEnabled;
+    
+    /**
+     * 배치 단위 주문 이벤트 처리 (실시간 소비)
+     * 배치에 포함된 고객의 연락처를 먼저 일괄 조회한 뒤 이벤트별 발송을 우선순위 lane에 등록하고,
+     * 배치의 발송이 모두 끝날 때까지 기다립니다. → 리스너가 반환(오프셋 커밋)하기 전에 발송이 끝남 (at-least-once)
+     * 호출한 리스너는 가장 느린 lane의 발송까지 기다리므로, LOW lane만 쓰는 감사 이벤트는 별도 consumer group에서 호출합니다.
+     *
+     * @return 모든 알림이 발송된 이벤트 (처리나 발송에 실패한 이벤트 제외)
+     */
+    public List<OrderEvent> processOrderEvents(List<OrderEvent> events) {
+        prefetchContacts(events);
+        
+        List<OrderEvent> dispatched = new ArrayList<>(events.size());
+        List<CompletableFuture<Void>> completions = new ArrayList<>(events.size());
+        for (OrderEvent event : events) {
+            try {
+                completions.add(processOrderEvent(event));
+                dispatched.add(event);
+            } catch (Exception e) {
+                log.error("Failed to process order event: {}", event, e);
+            }
+        }
+        
+        List<OrderEvent> delivered = new ArrayList<>(dispatched.size());
+        for (int i = 0; i < dispatched.size(); i++) {
+            try {
+                completions.get(i).join();
+                delivered.add(dispatched.get(i));
+            } catch (CompletionException e) {
+                log.error("Failed to send notifications for order event: {}", dispatched.get(i), e.getCause());
+            }
+        }
+        return delivered;
+    }
+    
+    /**
+     * 배치 단위 주문 이벤트 처리 (발송 채널 지정, 재처리 등에서 사용)
+     * 호출 스레드에서 지정 채널로 바로 발송하며, 실시간 우선순위 lane과 worker 예산을 사용하지 않습니다.
+     */
+    public void processOrderEvents(List<OrderEvent> events, NotificationSender sender) {
+        prefetchContacts(events);
+        for (OrderEvent event : events) {
+            try {
+                processOrderEvent(event, sender);
+            } catch (Exception e) {
+                log.error("Failed to process order event: {}", event, e);
+            }
+        }
+    }
+    
+    /**
+     * 주문 이벤트 처리 (실시간 소비)
+     * 채널별 우선순위 lane을 거쳐 비동기로 발송되며, 모두 발송된 시점을 신선도로 기록합니다.
+     *
+     * @return 이벤트의 발송이 모두 끝나면 완료되는 future
+     */
+    public CompletableFuture<Void> processOrderEvent(OrderEvent event) {
+        LaneNotificationSender laneSender =
+                new LaneNotificationSender(laneDispatcher, defaultSender, event.getClass().getSimpleName());
+        handleOrderEvent(event, laneSender, true);
+        return laneSender.dispatch().thenRun(() -> {
+            if (event.getConsumedAt() != null) {
+                freshnessTracker.recordSent(event);
+            }
+        });
+    }
+    
     /**
-     * 주문 이벤트 처리
+     * 주문 이벤트 처리 (발송 채널 지정 - 호출 스레드에서 직접 발송)
      */
-    public void processOrderEvent(OrderEvent event) {
+    public void processOrderEvent(OrderEvent event, NotificationSender sender) {
+        handleOrderEvent(event, sender, false);
+    }
+    
+    private void prefetchContacts(List<OrderEvent> events) {
+        contactDirectory.prefetch(events.stream()
+                .map(OrderEvent::getCustomerName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+    }
+    
+    /**
+     * 이벤트 타입별 처리 (live: 실시간 소비 여부 - 고객별 속도 제한은 실시간 발송에만 적용)
+     */
+    private void handleOrderEvent(OrderEvent event, NotificationSender sender, boolean live) {
         if (event instanceof OrderCreatedEvent) {
-            handleOrderCreated((OrderCreatedEvent) event);
+            handleOrderCreated((OrderCreatedEvent) event, sender, live);
         } else if (event instanceof OrderStatusChangedEvent) {
-            handleOrderStatusChanged((OrderStatusChangedEvent) event);
+            handleOrderStatusChanged((OrderStatusChangedEvent) event, sender, live);
         } else if (event instanceof OrderDeletedEvent) {
-            handleOrderDeleted((OrderDeletedEvent) event);
+            handleOrderDeleted((OrderDeletedEvent) event, sender);
         }
     }
     
     /**
      * 주문 생성 처리
      */
-    private void handleOrderCreated(OrderCreatedEvent event) {
+    private void handleOrderCreated(OrderCreatedEvent event, NotificationSender sender, boolean live) {
         log.info("""
                 ========================================
                 📦 NEW ORDER NOTIFICATION
@@ -45,17 +148,26 @@ public class NotificationService {
                 event.getTotalAmount(),
                 event.getStatus());
 
-        sendEmail(
-            event.getCustomerName() + "@example.com",
+        StringBuilder body = new StringBuilder("주문번호 " + event.getOrderNumber() + "가 접수되었습니다.");
+        for (OrderItemData item : event.getItems()) {
+            body.append("\n- ").append(item.getProductName())
+                    .append(" x").append(item.getQuantity())
+                    .append(" (").append(item.getUnitPrice()).append(")");
+        }
+        
+        sendCustomerEmail(
+            sender,
+            live,
+            event.getCustomerName(),
             "주문이 접수되었습니다",
-            "주문번호 " + event.getOrderNumber() + "가 접수되었습니다."
+            body.toString()
         );
     }
     
     /**
      * 주문 상태 변경 처리
      */
-    private void handleOrderStatusChanged(OrderStatusChangedEvent event) {
+    private void handleOrderStatusChanged(OrderStatusChangedEvent event, NotificationSender sender, boolean live) {
         log.info("""
                 ========================================
                 🔄 ORDER STATUS UPDATE NOTIFICATION
@@ -80,16 +192,18 @@ public class NotificationService {
             default -> "주문 상태가 변경되었습니다.";
         };
         
-        sendEmail(
-            event.getCustomerName() + "@example.com",
+        sendCustomerEmail(
+            sender,
+            live,
+            event.getCustomerName(),
             "주문 상태 업데이트",
             "주문번호 " + event.getOrderNumber() + ": " + message
         );
         
         // 배송 시작 시 추가 작업
         if ("SHIPPED".equals(event.getStatus())) {
-            sendSms(
-                "+82-10-1234-5678",
+            sender.sendSms(
+                contactDirectory.lookup(event.getCustomerName()).getPhone(),
                 "[배송시작] " + event.getOrderNumber() + " 상품이 배송되었습니다."
             );
         }
@@ -98,7 +212,7 @@ public class NotificationService {
     /**
      * 주문 삭제 처리
      */
-    private void handleOrderDeleted(OrderDeletedEvent event) {
+    private void handleOrderDeleted(OrderDeletedEvent event, NotificationSender sender) {
         log.info("""
                 ========================================
                 🗑️  ORDER DELETION NOTIFICATION
@@ -113,7 +227,7 @@ public class NotificationService {
                 event.getCustomerName());
         
         // 주문 삭제는 보통 관리자 작업이므로 내부 로깅
-        logToAuditSystem(
+        sender.logToAuditSystem(
             "ORDER_DELETED",
             event.getOrderId(),
             "Order " + event.getOrderNumber() + " was deleted"
@@ -121,26 +235,22 @@ public class NotificationService {
     }
     
     /**
-     * 이메일 발송 (실제 구현에서는 이메일 서비스 호출)
+     * 고객 이메일 발송 (고객별 속도 제한 초과 시 요약 이메일로 합침)
+     * 재처리는 REAL 모드라도 실시간 고객 버킷을 소모하지 않습니다 (live = false).
      */
-    private void sendEmail(String to, String subject, String body) {
-        log.info("📧 Sending email to {}: {}", to, subject);
-        // TODO: 실제 이메일 발송 구현 (SendGrid, AWS SES 등)
-    }
-    
-    /**
-     * SMS 발송 (실제 구현에서는 SMS 서비스 호출)
-     */
-    private void sendSms(String to, String message) {
-        log.info("📱 Sending SMS to {}: {}", to, message);
-        // TODO: 실제 SMS 발송 구현 (Twilio, AWS SNS 등)
-    }
-    
-    /**
-     * 감사 로그 (실제 구현에서는 감사 시스템에 로깅)
-     */
-    private void logToAuditSystem(String action, Long orderId, String details) {
-        log.info("📝 Audit log: [{}] Order {} - {}", action, orderId, details);
-        // TODO: 실제 감사 시스템 연동 (Elasticsearch, DataDog 등)
+    private void sendCustomerEmail(NotificationSender sender, boolean live,
+                                   String customerName, String subject, String body) {
+        if (throttleEnabled && live && !customerRateLimiter.tryAcquire(customerName)) {
+            log.debug("Customer {} over notification limit - adding to digest: {}", customerName, subject);
+            meterRegistry.counter("notification.throttled").increment();
+            digestService.add(customerName, body);
+            return;
+        }
+        
+        sender.sendEmail(
+            contactDirectory.lookup(customerName).getEmail(),
+            subject,
+            body
+        );
     }
 }
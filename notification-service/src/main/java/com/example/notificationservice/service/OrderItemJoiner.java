@@ -0,0 +1,470 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.model.OrderCreatedEvent;
+import com.example.notificationservice.model.OrderEvent;
+import com.example.notificationservice.model.OrderItemData;
+import com.example.notificationservice.model.OrderItemDebeziumEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * orders / order_items CDC 스트림 조인 (주문 생성 알림에 상품 목록 포함)
+ *
+ * - 주문과 상품을 order id 기준으로 버퍼링하고, 주문의 item_count만큼 상품이 모이면 즉시 발행
+ * - window: 같은 주문으로 묶을 상품의 커밋 시각(source ts_ms) 허용 범위 (주문 생성 트랜잭션의 상품만 포함)
+ * - grace: 두 토픽의 소비 지연 차이를 흡수하기 위한 추가 대기 시간 → window + grace가 지나면 모인 상품만으로 발행
+ * - 대기 중인 주문/상품 그룹 수에 상한이 있어 가장 오래된 항목부터 내보냄 → 메모리 사용량 제한
+ *
+ * 대기 중인 주문과 먼저 도착한 상품은 각자 소스 파티션의 상태 저장소에도 기록합니다 (join:order:*, join:items:*).
+ * 리스너는 changelog 기록까지 끝난 뒤 오프셋을 커밋하므로, 재시작·리밸런스로 파티션이 넘어가도
+ * 새 소유자가 할당 시점에 대기 상태를 복원해 조인을 이어갑니다. 발송에 성공한 주문만 저장소에서 지웁니다.
+ * orders와 order_items는 order id로 co-partitioning되어 있어야 합니다 (같은 파티션 번호가 같은 인스턴스에 할당).
+ */
+@Slf4j
+@Service
+public class OrderItemJoiner {
+    
+    private static final String ORDER_KEY_PREFIX = "join:order:";
+    private static final String ITEMS_KEY_PREFIX = "join:items:";
+    
+    private final NotificationService notificationService;
+    private final OrderStatusDeduplicator deduplicator;
+    private final PartitionStateStore stateStore;
+    private final ObjectMapper objectMapper;
+    private final long windowMillis;
+    private final long waitMillis;
+    private final int maxPending;
+    private final int maxItemsPerOrder;
+    
+    // 삽입 순서 = 도착 순서 (가장 오래된 항목이 앞), 모든 접근은 this로 동기화
+    private final LinkedHashMap<Long, PendingOrder> pendingOrders = new LinkedHashMap<>();
+    private final LinkedHashMap<Long, PendingItems> pendingItems = new LinkedHashMap<>();
+    private final LinkedHashMap<Long, Boolean> recentlyEmitted;
+    private int pendingItemCount;
+    
+    private final Counter completeCounter;
+    private final Counter incompleteCounter;
+    private final Counter evictedCounter;
+    private final Counter joinedItemsCounter;
+    private final Counter lateItemsCounter;
+    private final Counter expiredItemsCounter;
+    
+    public OrderItemJoiner(
+            NotificationService notificationService,
+            OrderStatusDeduplicator deduplicator,
+            PartitionStateStore stateStore,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${notification.join.window:PT5S}") Duration window,
+            @Value("${notification.join.grace:PT10S}") Duration grace,
+            @Value("${notification.join.max-pending:10000}") int maxPending,
+            @Value("${notification.join.max-items-per-order:200}") int maxItemsPerOrder) {
+        this.notificationService = notificationService;
+        this.deduplicator = deduplicator;
+        this.stateStore = stateStore;
+        this.objectMapper = objectMapper;
+        this.windowMillis = window.toMillis();
+        this.waitMillis = window.plus(grace).toMillis();
+        this.maxPending = maxPending;
+        this.maxItemsPerOrder = maxItemsPerOrder;
+        this.recentlyEmitted = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > maxPending;
+            }
+        };
+        
+        this.completeCounter = meterRegistry.counter("notification.join.orders", "result", "complete");
+        this.incompleteCounter = meterRegistry.counter("notification.join.orders", "result", "incomplete");
+        this.evictedCounter = meterRegistry.counter("notification.join.orders", "result", "evicted");
+        this.joinedItemsCounter = meterRegistry.counter("notification.join.items", "result", "joined");
+        this.lateItemsCounter = meterRegistry.counter("notification.join.items", "result", "late");
+        this.expiredItemsCounter = meterRegistry.counter("notification.join.items", "result", "expired");
+        
+        Gauge.builder("notification.join.pending.orders", this, joiner -> joiner.pendingSize(true))
+                .description("Created orders waiting for their line items")
+                .register(meterRegistry);
+        Gauge.builder("notification.join.pending.items", this, joiner -> joiner.pendingSize(false))
+                .description("Line items buffered before their order arrived")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 주문 생성 이벤트 조인 시도
+     * 상품이 없거나 이미 모두 도착했으면 items를 채워 true 반환 (호출자가 바로 처리),
+     * 아니면 대기열에 넣고 false 반환 (완성되거나 대기 시간이 지나면 이 클래스가 발행하고, 발송 후 중복 판정 상태 기록)
+     */
+    public boolean offerOrder(TopicPartition partition, OrderCreatedEvent event, long sourceTimestamp) {
+        int expected = event.getItemCount() != null ? event.getItemCount() : 0;
+        if (expected == 0) {
+            return true;
+        }
+        
+        List<PendingOrder> evicted = new ArrayList<>();
+        synchronized (this) {
+            // 복원된 대기 주문이 있으면 (상태 기록 후 오프셋 커밋 전에 넘어와 재전달된 레코드) 모인 상품을 유지
+            if (pendingOrders.containsKey(event.getOrderId())) {
+                log.debug("Order {} is already waiting for its items", event.getOrderNumber());
+                return false;
+            }
+            PendingOrder pending = new PendingOrder(partition, event, sourceTimestamp, System.currentTimeMillis());
+            PendingItems early = pendingItems.remove(event.getOrderId());
+            if (early != null) {
+                pendingItemCount -= early.items.size();
+                early.items.forEach(item -> pending.add(item, windowMillis));
+                removeState(early.partition, ITEMS_KEY_PREFIX + event.getOrderId());
+            }
+            
+            if (pending.isComplete()) {
+                markEmitted(pending);
+                completeCounter.increment();
+                return true;
+            }
+            
+            pendingOrders.put(event.getOrderId(), pending);
+            saveState(pending);
+            while (pendingOrders.size() > maxPending) {
+                PendingOrder oldest = removeEldest(pendingOrders);
+                markEmitted(oldest);
+                evictedCounter.increment();
+                evicted.add(oldest);
+            }
+        }
+        
+        emit(evicted);
+        return false;
+    }
+    
+    /**
+     * 상품 생성 이벤트 조인 (완성된 주문은 즉시 발행)
+     */
+    public void offerItems(TopicPartition partition, List<OrderItemDebeziumEvent> itemEvents) {
+        List<PendingOrder> completed = new ArrayList<>();
+        synchronized (this) {
+            for (OrderItemDebeziumEvent itemEvent : itemEvents) {
+                OrderItemData item = itemEvent.getAfter();
+                long sourceTimestamp = itemEvent.getSource() != null && itemEvent.getSource().getTimestamp() != null
+                        ? itemEvent.getSource().getTimestamp()
+                        : itemEvent.getTimestamp();
+                Long orderId = item.getOrderId();
+                
+                PendingOrder order = pendingOrders.get(orderId);
+                if (order != null) {
+                    order.add(new TimestampedItem(item, sourceTimestamp), windowMillis);
+                    if (order.isComplete()) {
+                        pendingOrders.remove(orderId);
+                        markEmitted(order);
+                        completeCounter.increment();
+                        completed.add(order);
+                    } else {
+                        saveState(order);
+                    }
+                } else if (recentlyEmitted.containsKey(orderId)) {
+                    log.debug("Late item {} for already notified order {} - dropping", item.getId(), orderId);
+                    lateItemsCounter.increment();
+                } else {
+                    bufferEarlyItem(partition, orderId, new TimestampedItem(item, sourceTimestamp));
+                }
+            }
+        }
+        
+        emit(completed);
+    }
+    
+    /**
+     * 대기 시간(window + grace)이 지난 주문은 모인 상품만으로 발행하고, 주문이 오지 않은 상품은 폐기 (주기적)
+     * 발송 완료까지 대기하므로 스케줄러 스레드가 여러 개여야 다른 주기 작업이 밀리지 않음 (spring.task.scheduling.pool.size)
+     */
+    @Scheduled(fixedDelayString = "${notification.join.sweep-interval:PT0.5S}")
+    public void sweep() {
+        List<PendingOrder> expired = new ArrayList<>();
+        long cutoff = System.currentTimeMillis() - waitMillis;
+        
+        synchronized (this) {
+            Iterator<PendingOrder> orders = pendingOrders.values().iterator();
+            while (orders.hasNext()) {
+                PendingOrder order = orders.next();
+                if (order.arrivedAt > cutoff) {
+                    break;
+                }
+                orders.remove();
+                markEmitted(order);
+                incompleteCounter.increment();
+                expired.add(order);
+                log.warn("Order {} emitted with {}/{} items after join wait",
+                        order.event.getOrderNumber(), order.event.getItems().size(), order.event.getItemCount());
+            }
+            
+            Iterator<PendingItems> itemGroups = pendingItems.values().iterator();
+            while (itemGroups.hasNext()) {
+                PendingItems group = itemGroups.next();
+                if (group.arrivedAt > cutoff) {
+                    break;
+                }
+                itemGroups.remove();
+                pendingItemCount -= group.items.size();
+                expiredItemsCounter.increment(group.items.size());
+                removeState(group.partition, ITEMS_KEY_PREFIX + group.orderId);
+            }
+        }
+        
+        emit(expired);
+    }
+    
+    /**
+     * 새로 할당된 파티션의 대기 중인 주문/상품 복원 (파티션 상태 저장소를 연 뒤 호출)
+     * 이미 알림한 주문(발송 후 삭제가 반영되기 전에 넘어온 항목)은 버립니다.
+     */
+    public void restore(Collection<TopicPartition> partitions) {
+        List<PendingOrder> restoredOrders = new ArrayList<>();
+        List<PendingItems> restoredItems = new ArrayList<>();
+        
+        for (TopicPartition partition : partitions) {
+            stateStore.entries(partition, ORDER_KEY_PREFIX).forEach((key, json) -> {
+                PendingOrderState state = readState(partition, key, json, PendingOrderState.class);
+                if (state == null) {
+                    return;
+                }
+                if (deduplicator.isNotified(partition, state.getEvent())) {
+                    removeState(partition, key);
+                    return;
+                }
+                restoredOrders.add(new PendingOrder(partition, state.getEvent(), state.getSourceTimestamp(), state.getArrivedAt()));
+            });
+            stateStore.entries(partition, ITEMS_KEY_PREFIX).forEach((key, json) -> {
+                PendingItemsState state = readState(partition, key, json, PendingItemsState.class);
+                if (state != null) {
+                    PendingItems group = new PendingItems(partition, state.getOrderId(), state.getArrivedAt());
+                    group.items.addAll(state.getItems());
+                    restoredItems.add(group);
+                }
+            });
+        }
+        if (restoredOrders.isEmpty() && restoredItems.isEmpty()) {
+            return;
+        }
+        
+        synchronized (this) {
+            restoredOrders.addAll(pendingOrders.values());
+            restoredOrders.sort(Comparator.comparingLong(order -> order.arrivedAt));
+            pendingOrders.clear();
+            restoredOrders.forEach(order -> pendingOrders.put(order.event.getOrderId(), order));
+            
+            restoredItems.addAll(pendingItems.values());
+            restoredItems.sort(Comparator.comparingLong(group -> group.arrivedAt));
+            pendingItems.clear();
+            pendingItemCount = 0;
+            for (PendingItems group : restoredItems) {
+                pendingItems.put(group.orderId, group);
+                pendingItemCount += group.items.size();
+            }
+        }
+        log.info("Restored join state for {} - {} pending orders, {} pending item groups",
+                partitions, pendingSize(true), pendingItems.size());
+    }
+    
+    /**
+     * 회수된 파티션의 대기 항목을 메모리에서 제거 (저장소에 남은 상태는 새 소유자가 복원)
+     * 파티션 상태 저장소를 닫기 전에 호출합니다.
+     */
+    public synchronized void release(Collection<TopicPartition> partitions) {
+        pendingOrders.values().removeIf(order -> partitions.contains(order.partition));
+        Iterator<PendingItems> itemGroups = pendingItems.values().iterator();
+        while (itemGroups.hasNext()) {
+            PendingItems group = itemGroups.next();
+            if (partitions.contains(group.partition)) {
+                itemGroups.remove();
+                pendingItemCount -= group.items.size();
+            }
+        }
+    }
+    
+    private void bufferEarlyItem(TopicPartition partition, Long orderId, TimestampedItem item) {
+        PendingItems group = pendingItems.computeIfAbsent(orderId,
+                id -> new PendingItems(partition, id, System.currentTimeMillis()));
+        if (group.items.size() >= maxItemsPerOrder) {
+            expiredItemsCounter.increment();
+            return;
+        }
+        group.items.add(item);
+        pendingItemCount++;
+        writeState(group.partition, ITEMS_KEY_PREFIX + orderId,
+                new PendingItemsState(orderId, group.arrivedAt, group.items));
+        
+        while (pendingItems.size() > maxPending) {
+            PendingItems oldest = removeEldest(pendingItems);
+            pendingItemCount -= oldest.items.size();
+            expiredItemsCounter.increment(oldest.items.size());
+            removeState(oldest.partition, ITEMS_KEY_PREFIX + oldest.orderId);
+        }
+    }
+    
+    private void saveState(PendingOrder order) {
+        writeState(order.partition, ORDER_KEY_PREFIX + order.event.getOrderId(),
+                new PendingOrderState(order.event, order.sourceTimestamp, order.arrivedAt));
+    }
+    
+    /**
+     * 대기 상태 기록 (그사이 파티션이 회수됐으면 기록하지 않음 - 새 소유자가 재전달받은 레코드로 다시 만듦)
+     */
+    private void writeState(TopicPartition partition, String key, Object state) {
+        if (!stateStore.isOpen(partition)) {
+            return;
+        }
+        try {
+            stateStore.put(partition, key, objectMapper.writeValueAsString(state));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize join state {} for {}", key, partition, e);
+        }
+    }
+    
+    private void removeState(TopicPartition partition, String key) {
+        if (stateStore.isOpen(partition)) {
+            stateStore.delete(partition, key);
+        }
+    }
+    
+    private <T> T readState(TopicPartition partition, String key, String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("Dropping unreadable join state {} for {}", key, partition, e);
+            removeState(partition, key);
+            return null;
+        }
+    }
+    
+    private void markEmitted(PendingOrder order) {
+        recentlyEmitted.put(order.event.getOrderId(), Boolean.TRUE);
+        joinedItemsCounter.increment(order.event.getItems().size());
+    }
+    
+    private synchronized int pendingSize(boolean orders) {
+        return orders ? pendingOrders.size() : pendingItemCount;
+    }
+    
+    /**
+     * 조인이 끝난 주문 발행 (발송에 성공한 주문만 중복 판정 상태에 기록하고 대기 상태 삭제)
+     * 발송에 실패한 주문의 대기 상태는 저장소에 남아 다음 파티션 할당 때 다시 발행됩니다.
+     */
+    private void emit(List<PendingOrder> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        
+        Map<OrderEvent, TopicPartition> partitions = new IdentityHashMap<>();
+        List<OrderEvent> events = new ArrayList<>(orders.size());
+        for (PendingOrder order : orders) {
+            partitions.put(order.event, order.partition);
+            events.add(order.event);
+        }
+        for (OrderEvent event : notificationService.processOrderEvents(events)) {
+            TopicPartition partition = partitions.get(event);
+            deduplicator.markNotified(partition, event);
+            removeState(partition, ORDER_KEY_PREFIX + event.getOrderId());
+        }
+    }
+    
+    private static <V> V removeEldest(LinkedHashMap<Long, V> map) {
+        Iterator<V> iterator = map.values().iterator();
+        V eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+    
+    record TimestampedItem(OrderItemData item, long sourceTimestamp) {
+    }
+    
+    /**
+     * 상품을 기다리는 주문
+     */
+    private static class PendingOrder {
+    
+        private final TopicPartition partition;
+        private final OrderCreatedEvent event;
+        private final long sourceTimestamp;
+        private final long arrivedAt;
+        
+        PendingOrder(TopicPartition partition, OrderCreatedEvent event, long sourceTimestamp, long arrivedAt) {
+            this.partition = partition;
+            this.event = event;
+            this.sourceTimestamp = sourceTimestamp;
+            this.arrivedAt = arrivedAt;
+        }
+        
+        void add(TimestampedItem item, long windowMillis) {
+            // 주문 생성 이후 따로 추가된 상품은 생성 알림 대상이 아님
+            if (Math.abs(item.sourceTimestamp() - sourceTimestamp) <= windowMillis) {
+                event.getItems().add(item.item());
+            }
+        }
+        
+        boolean isComplete() {
+            return event.getItems().size() >= event.getItemCount();
+        }
+    }
+    
+    /**
+     * 주문보다 먼저 도착한 상품 묶음
+     */
+    private static class PendingItems {
+    
+        private final TopicPartition partition;
+        private final Long orderId;
+        private final long arrivedAt;
+        private final List<TimestampedItem> items = new ArrayList<>();
+        
+        PendingItems(TopicPartition partition, Long orderId, long arrivedAt) {
+            this.partition = partition;
+            this.orderId = orderId;
+            this.arrivedAt = arrivedAt;
+        }
+    }
+    
+    /**
+     * 저장소에 기록하는 대기 주문 형식 (arrivedAt을 유지해 파티션이 넘어가도 대기 시간 상한이 이어짐)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class PendingOrderState {
+    
+        private OrderCreatedEvent event;
+        private long sourceTimestamp;
+        private long arrivedAt;
+    }
+    
+    /**
+     * 저장소에 기록하는 먼저 도착한 상품 묶음 형식
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class PendingItemsState {
+    
+        private Long orderId;
+        private long arrivedAt;
+        private List<TimestampedItem> items = new ArrayList<>();
+    }
+}
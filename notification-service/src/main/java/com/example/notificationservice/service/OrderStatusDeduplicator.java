@@ -0,0 +1,180 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.model.OrderDeletedEvent;
+import com.example.notificationservice.model.OrderEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문별 마지막으로 알림한 상태를 파티션 상태 저장소에 기록해 중복 알림을 걸러냄
+ * (재시작·리밸런스 후 재전달된 레코드나 같은 상태의 중복 이벤트)
+ *
+ * 상태는 알림 발송에 성공한 뒤에만 기록합니다. 발송 전에 기록하면 발송 실패나 장애 후 복원된 상태가
+ * 실제로 나가지 않은 알림을 중복으로 판단해 걸러내게 됩니다.
+ *
+ * 항목은 "상태|기록 시각(epoch ms)"으로 저장하고 retention이 지나면 삭제(changelog tombstone)합니다.
+ * 재전달은 리밸런스·재시작 직후에 몰리므로 중복 판정 window는 retention으로 충분하며,
+ * 저장소·changelog 크기가 누적 주문 수가 아닌 retention 동안 알림한 주문 수에 비례합니다.
+ */
+@Slf4j
+@Service
+public class OrderStatusDeduplicator {
+    
+    private static final String KEY_PREFIX = "order:";
+    private static final char SEPARATOR = '|';
+    
+    private final PartitionStateStore stateStore;
+    private final Duration retention;
+    private final Counter duplicateCounter;
+    private final Counter expiredCounter;
+    
+    public OrderStatusDeduplicator(
+            PartitionStateStore stateStore,
+            MeterRegistry meterRegistry,
+            @Value("${notification.dedup.retention:P7D}") Duration retention) {
+        this.stateStore = stateStore;
+        this.retention = retention;
+        this.duplicateCounter = meterRegistry.counter("notification.duplicates.skipped");
+        this.expiredCounter = meterRegistry.counter("notification.duplicates.expired");
+    }
+    
+    /**
+     * 배치 하나의 중복 판정 시작
+     */
+    public Batch newBatch() {
+        return new Batch();
+    }
+    
+    /**
+     * 알림 발송 성공 후 마지막 상태 기록 (삭제 이벤트는 항목 제거)
+     * 그사이 파티션이 회수됐으면 기록하지 않음 → 새 소유자가 재전달받으면 다시 알림 (at-least-once)
+     */
+    public void markNotified(TopicPartition partition, OrderEvent event) {
+        if (!stateStore.isOpen(partition)) {
+            log.debug("Partition {} no longer assigned - not recording status of order {}", partition, event.getOrderNumber());
+            return;
+        }
+        String key = keyOf(event);
+        if (event instanceof OrderDeletedEvent) {
+            stateStore.delete(partition, key);
+        } else {
+            stateStore.put(partition, key, event.getStatus() + SEPARATOR + System.currentTimeMillis());
+        }
+    }
+    
+    /**
+     * 이 주문에 대해 알림한 상태가 기록되어 있는지
+     */
+    public boolean isNotified(TopicPartition partition, OrderEvent event) {
+        return stateStore.get(partition, keyOf(event)) != null;
+    }
+    
+    /**
+     * retention이 지난 항목 삭제 (주기적, 열린 파티션 전체)
+     * 확인 이후 새로 기록된 항목은 삭제하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.dedup.purge-interval:PT10M}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        int purged = 0;
+        for (TopicPartition partition : stateStore.openPartitions()) {
+            purged += stateStore.deleteIf(partition, KEY_PREFIX, (key, value) -> notifiedAt(value) < cutoff);
+        }
+        if (purged > 0) {
+            expiredCounter.increment(purged);
+            log.info("Purged {} dedup entries notified more than {} ago", purged, retention);
+        }
+    }
+    
+    private static String keyOf(OrderEvent event) {
+        return KEY_PREFIX + event.getOrderId();
+    }
+    
+    private static String statusOf(String value) {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.lastIndexOf(SEPARATOR);
+        return separator < 0 ? value : value.substring(0, separator);
+    }
+    
+    /**
+     * 기록 시각 (시각이 없는 이전 형식 항목은 0 → 다음 정리 때 삭제)
+     */
+    private static long notifiedAt(String value) {
+        int separator = value.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+    
+    /**
+     * 배치 단위 중복 판정
+     * 아직 발송 전인 배치 앞쪽 이벤트도 판정에 포함하므로 같은 배치 안의 중복도 걸러집니다.
+     */
+    public class Batch {
+    
+        private final Map<OrderEvent, TopicPartition> accepted = new IdentityHashMap<>();
+        private final Map<String, String> pendingStatuses = new HashMap<>();
+        
+        private Batch() {
+        }
+        
+        /**
+         * 마지막으로 알림한 상태와 다르면 true, 이미 알림한 상태면 false
+         */
+        public boolean accept(TopicPartition partition, OrderEvent event) {
+            String key = keyOf(event);
+            String pendingKey = partition + "/" + key;
+            
+            if (event instanceof OrderDeletedEvent) {
+                pendingStatuses.put(pendingKey, null);
+                accepted.put(event, partition);
+                return true;
+            }
+            
+            String lastStatus = pendingStatuses.containsKey(pendingKey)
+                    ? pendingStatuses.get(pendingKey)
+                    : statusOf(stateStore.get(partition, key));
+            if (event.getStatus() != null && event.getStatus().equals(lastStatus)) {
+                log.debug("Skipping duplicate event for order {} in status {}", event.getOrderNumber(), event.getStatus());
+                duplicateCounter.increment();
+                return false;
+            }
+            
+            pendingStatuses.put(pendingKey, event.getStatus());
+            accepted.put(event, partition);
+            return true;
+        }
+        
+        /**
+         * 발송에 성공한 이벤트의 상태를 기록하고 changelog 기록이 끝날 때까지 대기
+         * 리스너가 반환(오프셋 커밋)하기 전에 호출합니다.
+         */
+        public void markNotified(List<OrderEvent> delivered) {
+            for (OrderEvent event : delivered) {
+                TopicPartition partition = accepted.get(event);
+                if (partition != null) {
+                    OrderStatusDeduplicator.this.markNotified(partition, event);
+                }
+            }
+            stateStore.awaitChangelog();
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package com.example.notificationservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
+
+/**
+ * 파티션 단위 상태 저장소
+ *
+ * - 할당된 소스 파티션마다 메모리 Map(ConcurrentHashMap)을 하나씩 두고, 내구성은 changelog 토픽과 로컬 checkpoint 파일로 확보
+ * - 모든 쓰기는 compacted changelog 토픽에도 기록 (삭제는 tombstone) → 상태 크기는 살아 있는 키 수에 비례하므로 호출자가 키 수명을 관리해야 함
+ * - changelog 토픽은 소스 토픽마다 하나씩, 소스 토픽과 같은 파티션 수로 생성하고 파티션 번호를 1:1로 대응 (Kafka Streams와 동일)
+ *   → 복원 시 자기 파티션의 상태만 읽으므로 복원 비용이 전체 상태가 아닌 파티션 하나의 상태 크기에 비례
+ * - 로컬 checkpoint는 전체 스냅샷 + 증분 로그: 주기적 flush는 마지막 flush 이후 바뀐 키만 로그에 덧붙이고,
+ *   누적된 증분이 전체 항목 수를 넘으면 스냅샷을 다시 쓰고 로그를 비움 → flush 비용이 변경량에 비례
+ * - 파티션 할당 시: 스냅샷 + 증분 로그 로드 후 checkpoint 이후의 changelog만 읽어 복원
+ * - 파티션 회수 시: flush 후 닫음 → 같은 인스턴스가 다시 받으면 checkpoint 이후의 changelog만 읽으면 됨
+ *
+ * 쓰기는 주로 해당 파티션의 리스너 스레드에서 일어나고(대기 시간이 지나 발송된 조인 주문은 스케줄러 스레드), flush는 스케줄러 스레드에서도 일어날 수 있습니다.
+ * 리스너는 오프셋 커밋 전에 awaitChangelog로 changelog 기록 완료를 확인합니다.
+ */
+@Slf4j
+@Service
+public class PartitionStateStore {
+    
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final KafkaAdmin kafkaAdmin;
+    private final ObjectMapper objectMapper;
+    private final Map<TopicPartition, PartitionStore> stores = new ConcurrentHashMap<>();
+    // changelog 토픽별로 생성(확장)을 확인한 파티션 수
+    private final Map<String, Integer> changelogPartitions = new ConcurrentHashMap<>();
+    private final String stateDir;
+    private final String changelogTopicPrefix;
+    private final int changelogReplicas;
+    private final Duration restoreTimeout;
+    private final int minCompactionEntries;
+    
+    public PartitionStateStore(
+            KafkaTemplate<String, String> kafkaTemplate,
+            ConsumerFactory<String, String> consumerFactory,
+            KafkaAdmin kafkaAdmin,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${notification.state.dir:state-store}") String stateDir,
+            @Value("${notification.state.changelog-topic-prefix:notification-service-state}") String changelogTopicPrefix,
+            @Value("${notification.state.changelog-replicas:1}") int changelogReplicas,
+            @Value("${notification.state.restore-timeout:PT2M}") Duration restoreTimeout,
+            @Value("${notification.state.min-compaction-entries:1000}") int minCompactionEntries) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.consumerFactory = consumerFactory;
+        this.kafkaAdmin = kafkaAdmin;
+        this.objectMapper = objectMapper;
+        this.stateDir = stateDir;
+        this.changelogTopicPrefix = changelogTopicPrefix;
+        this.changelogReplicas = changelogReplicas;
+        this.restoreTimeout = restoreTimeout;
+        this.minCompactionEntries = minCompactionEntries;
+        
+        Gauge.builder("notification.state.partitions", stores, Map::size)
+                .description("Source partitions with an open local state store")
+                .register(meterRegistry);
+        Gauge.builder("notification.state.entries", stores,
+                        map -> map.values().stream().mapToInt(store -> store.entries.size()).sum())
+                .description("Entries held in local partition state stores")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 값 조회 (파티션 저장소가 열려 있지 않으면 null)
+     */
+    public String get(TopicPartition partition, String key) {
+        PartitionStore store = stores.get(partition);
+        return store != null ? store.entries.get(key) : null;
+    }
+    
+    /**
+     * 키 prefix로 시작하는 값 전체 조회 (파티션 할당 후 상태 재구성용, 열려 있지 않으면 빈 Map)
+     */
+    public Map<String, String> entries(TopicPartition partition, String keyPrefix) {
+        PartitionStore store = stores.get(partition);
+        if (store == null) {
+            return Map.of();
+        }
+        Map<String, String> matched = new HashMap<>();
+        store.entries.forEach((key, value) -> {
+            if (key.startsWith(keyPrefix)) {
+                matched.put(key, value);
+            }
+        });
+        return matched;
+    }
+    
+    /**
+     * 현재 열려 있는 파티션 목록
+     */
+    public Set<TopicPartition> openPartitions() {
+        return Set.copyOf(stores.keySet());
+    }
+    
+    /**
+     * 파티션 저장소가 열려 있는지 (현재 이 인스턴스에 할당된 파티션인지)
+     */
+    public boolean isOpen(TopicPartition partition) {
+        return stores.containsKey(partition);
+    }
+    
+    /**
+     * 값 저장 (로컬 반영 후 changelog 기록)
+     */
+    public void put(TopicPartition partition, String key, String value) {
+        PartitionStore store = requireStore(partition);
+        synchronized (store) {
+            store.entries.put(key, value);
+            store.dirty.add(key);
+            writeChangelog(store, key, value);
+        }
+    }
+    
+    /**
+     * 값 삭제 (changelog에는 tombstone 기록)
+     */
+    public void delete(TopicPartition partition, String key) {
+        PartitionStore store = requireStore(partition);
+        synchronized (store) {
+            if (store.entries.remove(key) != null) {
+                store.dirty.add(key);
+                writeChangelog(store, key, null);
+            }
+        }
+    }
+    
+    /**
+     * 키 prefix로 시작하고 조건에 맞는 값 삭제 (만료 정리용, 열려 있지 않으면 0)
+     * 확인 시점 이후 다른 스레드가 바꾼 값은 삭제하지 않습니다.
+     */
+    public int deleteIf(TopicPartition partition, String keyPrefix, BiPredicate<String, String> condition) {
+        PartitionStore store = stores.get(partition);
+        if (store == null) {
+            return 0;
+        }
+        int deleted = 0;
+        for (Map.Entry<String, String> entry : store.entries.entrySet()) {
+            if (!entry.getKey().startsWith(keyPrefix) || !condition.test(entry.getKey(), entry.getValue())) {
+                continue;
+            }
+            synchronized (store) {
+                if (store.entries.remove(entry.getKey(), entry.getValue())) {
+                    store.dirty.add(entry.getKey());
+                    writeChangelog(store, entry.getKey(), null);
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+    
+    /**
+     * 지금까지의 changelog 기록이 브로커에 반영될 때까지 대기 (오프셋 커밋 전에 호출)
+     * 실패한 기록이 있으면 예외를 던져 배치를 다시 처리하게 함 → 오프셋이 커밋되지 않음
+     */
+    public void awaitChangelog() {
+        kafkaTemplate.flush();
+        for (PartitionStore store : stores.values()) {
+            Exception failure = store.changelogFailure.getAndSet(null);
+            if (failure != null) {
+                throw new IllegalStateException("Failed to write state changelog for " + store.partition, failure);
+            }
+        }
+    }
+    
+    /**
+     * 새로 할당된 파티션 저장소 열기 (로컬 checkpoint + changelog 복원)
+     */
+    public void open(Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        try (Consumer<String, String> restoreConsumer = createRestoreConsumer()) {
+            for (TopicPartition partition : partitions) {
+                if (stores.containsKey(partition)) {
+                    continue;
+                }
+                PartitionStore store = loadCheckpoint(partition, changelogOf(restoreConsumer, partition));
+                int restored = restore(restoreConsumer, store);
+                stores.put(partition, store);
+                log.info("Opened state store for {} - {} entries ({} restored from changelog)",
+                        partition, store.entries.size(), restored);
+            }
+        }
+        log.info("Restored state for {} partitions in {}ms", partitions.size(), System.currentTimeMillis() - startTime);
+    }
+    
+    /**
+     * 회수된 파티션 저장소 flush 후 닫기
+     */
+    public void close(Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            PartitionStore store = stores.remove(partition);
+            if (store != null) {
+                flush(store);
+                log.info("Closed state store for {} - {} entries", partition, store.entries.size());
+            }
+        }
+    }
+    
+    /**
+     * 열린 저장소 전체 로컬 checkpoint (주기적)
+     */
+    @Scheduled(fixedDelayString = "${notification.state.flush-interval:PT30S}")
+    public void flushAll() {
+        stores.values().forEach(this::flush);
+    }
+    
+    private PartitionStore requireStore(TopicPartition partition) {
+        PartitionStore store = stores.get(partition);
+        if (store == null) {
+            throw new IllegalStateException("No state store open for " + partition);
+        }
+        return store;
+    }
+    
+    private void writeChangelog(PartitionStore store, String key, String value) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                store.changelog.topic(), store.changelog.partition(), key, value);
+        kafkaTemplate.send(record).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("Failed to write state changelog for {} key {}", store.partition, key, ex);
+                store.changelogFailure.compareAndSet(null, ex instanceof Exception e ? e : new IllegalStateException(ex));
+            } else {
+                store.changelogOffset.accumulateAndGet(result.getRecordMetadata().offset(), Math::max);
+            }
+        });
+    }
+    
+    /**
+     * checkpoint 이후 changelog 레코드를 end offset까지 재적용
+     */
+    private int restore(Consumer<String, String> consumer, PartitionStore store) {
+        TopicPartition changelog = store.changelog;
+        consumer.assign(List.of(changelog));
+        
+        long endOffset = consumer.endOffsets(List.of(changelog)).get(changelog);
+        long beginningOffset = consumer.beginningOffsets(List.of(changelog)).get(changelog);
+        long startOffset = Math.max(store.changelogOffset.get() + 1, beginningOffset);
+        if (startOffset >= endOffset) {
+            return 0;
+        }
+        consumer.seek(changelog, startOffset);
+        
+        int restored = 0;
+        long deadline = System.currentTimeMillis() + restoreTimeout.toMillis();
+        while (consumer.position(changelog) < endOffset) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Timed out restoring state for " + store.partition);
+            }
+            for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(500))) {
+                if (record.key() == null) {
+                    continue;
+                }
+                if (record.value() == null) {
+                    store.entries.remove(record.key());
+                } else {
+                    store.entries.put(record.key(), record.value());
+                }
+                store.changelogOffset.accumulateAndGet(record.offset(), Math::max);
+                restored++;
+            }
+        }
+        return restored;
+    }
+    
+    /**
+     * 로컬 checkpoint 쓰기 (바뀐 키만 증분 로그에 추가, 증분이 쌓이면 스냅샷 재작성)
+     * producer flush 이후의 offset을 먼저 읽으므로 checkpoint는 항상 파일 내용보다 같거나 과거 →
+     * 복원 시 그 이후 changelog를 순서대로 재적용하면 최신 상태가 됨
+     */
+    private void flush(PartitionStore store) {
+        synchronized (store.flushLock) {
+            try {
+                kafkaTemplate.flush();
+                long offset = store.changelogOffset.get();
+                
+                int threshold = Math.max(store.entries.size(), minCompactionEntries);
+                if (store.generation < 0 || store.deltaEntries + store.dirty.size() > threshold) {
+                    writeSnapshot(store, offset);
+                } else if (!store.dirty.isEmpty()) {
+                    appendDelta(store, offset);
+                }
+            } catch (Exception e) {
+                log.error("Failed to flush state store for {}", store.partition, e);
+            }
+        }
+    }
+    
+    /**
+     * 전체 스냅샷 쓰기 (임시 파일에 쓴 뒤 교체) 후 증분 로그 비움
+     * 세대 번호를 올려 교체 직후 중단되어 남은 이전 증분 로그는 로드 시 무시됨
+     */
+    private void writeSnapshot(PartitionStore store, long offset) throws IOException {
+        long generation = store.generation + 1;
+        store.dirty.clear();
+        StateCheckpoint checkpoint = new StateCheckpoint(store.changelog.topic(), store.changelog.partition(),
+                offset, generation, new HashMap<>(store.entries));
+        
+        Path file = checkpointFile(store.partition);
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        objectMapper.writeValue(tmp.toFile(), checkpoint);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(deltaFile(store.partition));
+        
+        store.generation = generation;
+        store.deltaEntries = 0;
+    }
+    
+    /**
+     * 마지막 flush 이후 바뀐 키의 현재 값(없어진 키는 삭제 목록)을 증분 로그에 한 줄로 추가
+     */
+    private void appendDelta(PartitionStore store, long offset) throws IOException {
+        StateDelta delta = new StateDelta(store.generation, offset, new HashMap<>(), new ArrayList<>());
+        for (String key : store.dirty) {
+            store.dirty.remove(key);
+            String value = store.entries.get(key);
+            if (value != null) {
+                delta.getPuts().put(key, value);
+            } else {
+                delta.getDeletes().add(key);
+            }
+        }
+        Files.writeString(deltaFile(store.partition), objectMapper.writeValueAsString(delta) + "\n",
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        store.deltaEntries += delta.getPuts().size() + delta.getDeletes().size();
+    }
+    
+    private PartitionStore loadCheckpoint(TopicPartition partition, TopicPartition changelog) {
+        PartitionStore store = new PartitionStore(partition, changelog);
+        Path file = checkpointFile(partition);
+        if (!Files.exists(file)) {
+            return store;
+        }
+        
+        try {
+            StateCheckpoint checkpoint = objectMapper.readValue(file.toFile(), StateCheckpoint.class);
+            // 다른 changelog를 기준으로 한 checkpoint(이전 버전 형식 등)는 offset이 맞지 않으므로 무시
+            if (changelog.topic().equals(checkpoint.getChangelogTopic())
+                    && checkpoint.getChangelogPartition() == changelog.partition()) {
+                store.entries.putAll(checkpoint.getEntries());
+                store.changelogOffset.set(checkpoint.getChangelogOffset());
+                store.generation = checkpoint.getGeneration();
+                loadDeltas(store);
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable state checkpoint {} - restoring from changelog", file, e);
+        }
+        return store;
+    }
+    
+    /**
+     * 스냅샷과 같은 세대의 증분 로그를 순서대로 적용 (쓰다 중단된 마지막 줄 이후는 changelog로 복원)
+     */
+    private void loadDeltas(PartitionStore store) throws IOException {
+        Path file = deltaFile(store.partition);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                StateDelta delta;
+                try {
+                    delta = objectMapper.readValue(line, StateDelta.class);
+                } catch (IOException e) {
+                    log.warn("Ignoring truncated state delta in {} - restoring the rest from changelog", file);
+                    break;
+                }
+                if (delta.getGeneration() != store.generation) {
+                    continue;
+                }
+                store.entries.putAll(delta.getPuts());
+                delta.getDeletes().forEach(store.entries::remove);
+                store.changelogOffset.set(delta.getChangelogOffset());
+                store.deltaEntries += delta.getPuts().size() + delta.getDeletes().size();
+            }
+        }
+    }
+    
+    /**
+     * 소스 파티션에 대응하는 changelog 파티션 (같은 번호)
+     * changelog 토픽이 없거나 소스 토픽보다 파티션이 적으면 소스 토픽 파티션 수로 생성/확장합니다.
+     */
+    private TopicPartition changelogOf(Consumer<String, String> consumer, TopicPartition partition) {
+        String changelogTopic = changelogTopicPrefix + "-" + partition.topic() + "-changelog";
+        int sourcePartitions = consumer.partitionsFor(partition.topic()).size();
+        if (changelogPartitions.getOrDefault(changelogTopic, 0) < sourcePartitions) {
+            kafkaAdmin.createOrModifyTopics(TopicBuilder.name(changelogTopic)
+                    .partitions(sourcePartitions)
+                    .replicas(changelogReplicas)
+                    .compact()
+                    .build());
+            changelogPartitions.put(changelogTopic, sourcePartitions);
+        }
+        return new TopicPartition(changelogTopic, partition.partition());
+    }
+    
+    private Path checkpointFile(TopicPartition partition) {
+        return Path.of(stateDir, partition.topic() + "-" + partition.partition() + ".json");
+    }
+    
+    private Path deltaFile(TopicPartition partition) {
+        return Path.of(stateDir, partition.topic() + "-" + partition.partition() + ".delta");
+    }
+    
+    private Consumer<String, String> createRestoreConsumer() {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "5000");
+        return consumerFactory.createConsumer(null, "state-restore", null, overrides);
+    }
+    
+    /**
+     * 소스 파티션 하나의 저장소
+     * 값 변경과 changelog 전송은 저장소 단위로 직렬화되어 changelog 순서가 메모리 반영 순서와 같음
+     */
+    private static class PartitionStore {
+    
+        private final TopicPartition partition;
+        private final TopicPartition changelog;
+        private final Map<String, String> entries = new ConcurrentHashMap<>();
+        // 마지막 flush 이후 바뀐 키 (flush는 한 번에 한 스레드만 수행)
+        private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+        private final AtomicLong changelogOffset = new AtomicLong(-1);
+        private final AtomicReference<Exception> changelogFailure = new AtomicReference<>();
+        private final Object flushLock = new Object();
+        private volatile long generation = -1;
+        private volatile int deltaEntries;
+        
+        PartitionStore(TopicPartition partition, TopicPartition changelog) {
+            this.partition = partition;
+            this.changelog = changelog;
+        }
+    }
+    
+    /**
+     * 로컬 checkpoint 파일 형식
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class StateCheckpoint {
+    
+        private String changelogTopic;
+        private int changelogPartition;
+        private long changelogOffset;
+        private long generation;
+        private Map<String, String> entries = new HashMap<>();
+    }
+    
+    /**
+     * 증분 로그 한 줄 형식
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class StateDelta {
+    
+        private long generation;
+        private long changelogOffset;
+        private Map<String, String> puts = new HashMap<>();
+        private List<String> deletes = new ArrayList<>();
+    }
+}
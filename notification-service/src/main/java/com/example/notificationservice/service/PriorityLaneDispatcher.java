@@ -0,0 +1,269 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.config.NotificationLaneProperties;
+import com.example.notificationservice.model.NotificationChannel;
+import com.example.notificationservice.model.NotificationLane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위 lane 기반 발송 실행기
+ *
+ * - lane마다 독립된 bounded 큐와 worker 상한(budget)을 가짐 → 하위 lane 폭주가 worker를 모두 점유하지 못함
+ * - 공유 worker는 항상 높은 lane부터 꺼내 처리
+ * - 하위 lane의 가장 오래된 작업이 starvation-threshold 이상 기다렸으면 그 lane을 먼저 처리 (기아 방지)
+ * - 큐가 가득 차면 overflow-wait 동안 기다린 뒤 호출 스레드에서 직접 발송 (Kafka 소비 속도로 역압)
+ */
+@Slf4j
+@Service
+public class PriorityLaneDispatcher {
+    
+    private final NotificationLaneProperties properties;
+    private final Map<NotificationLane, Lane> lanes = new EnumMap<>(NotificationLane.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private final List<Thread> workers = new ArrayList<>();
+    private final long starvationThresholdNanos;
+    
+    private volatile boolean stopping;
+    
+    public PriorityLaneDispatcher(NotificationLaneProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.starvationThresholdNanos = properties.getStarvationThreshold().toNanos();
+        
+        for (NotificationLane type : NotificationLane.values()) {
+            NotificationLaneProperties.Budget budget = properties.getBudgets()
+                    .getOrDefault(type, new NotificationLaneProperties.Budget());
+            Lane lane = new Lane(type, budget.getCapacity(), Math.min(budget.getMaxWorkers(), properties.getWorkers()),
+                    lock.newCondition(), meterRegistry);
+            lanes.put(type, lane);
+            
+            Gauge.builder("notification.lane.queue.depth", lane, this::queueDepth)
+                    .tag("lane", type.name())
+                    .description("Notifications waiting in the lane queue")
+                    .register(meterRegistry);
+            Gauge.builder("notification.lane.in.flight", lane, this::inFlight)
+                    .tag("lane", type.name())
+                    .description("Notifications of the lane currently being sent")
+                    .register(meterRegistry);
+        }
+        
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            Thread worker = new Thread(this::runWorker, "notification-lane-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+    
+    /**
+     * 이벤트 타입 / 채널 조합의 lane
+     */
+    public NotificationLane laneFor(String eventType, NotificationChannel channel) {
+        Map<NotificationChannel, NotificationLane> byChannel = properties.getRoutes().get(eventType);
+        NotificationLane lane = byChannel != null ? byChannel.get(channel) : null;
+        return lane != null ? lane : properties.getDefaultLane();
+    }
+    
+    /**
+     * 발송 작업 등록
+     */
+    public void submit(NotificationLane type, Runnable task) {
+        Lane lane = lanes.get(type);
+        
+        lock.lock();
+        try {
+            long remaining = properties.getOverflowWait().toNanos();
+            while (lane.queue.size() >= lane.capacity && !stopping && remaining > 0) {
+                remaining = lane.notFull.awaitNanos(remaining);
+            }
+            if (lane.queue.size() < lane.capacity && !stopping) {
+                lane.queue.add(new Task(task, System.nanoTime()));
+                workAvailable.signal();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+        
+        // 큐 포화 또는 종료 중 - 알림을 버리지 않고 호출 스레드에서 발송
+        lane.overflowCounter.increment();
+        log.warn("Lane {} is full ({} queued) - sending on caller thread", type, lane.capacity);
+        execute(lane, task);
+    }
+    
+    /**
+     * 종료 시 큐에 남은 작업을 모두 발송한 뒤 worker 종료
+     * 컨텍스트 종료 시 리스너 컨테이너(Lifecycle)가 먼저 멈추므로 이 시점에는 새 배치가 들어오지 않습니다.
+     * 배치는 발송 완료까지 기다린 뒤 오프셋을 커밋하므로, 남은 작업은 주로 digest처럼 리스너 밖에서 등록된 것입니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        lock.lock();
+        try {
+            stopping = true;
+            workAvailable.signalAll();
+            lanes.values().forEach(lane -> lane.notFull.signalAll());
+            int queued = lanes.values().stream().mapToInt(lane -> lane.queue.size()).sum();
+            if (queued > 0) {
+                log.info("Draining {} queued notifications before shutdown", queued);
+            }
+        } finally {
+            lock.unlock();
+        }
+        
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+    
+    private void runWorker() {
+        while (true) {
+            Lane lane;
+            Task task;
+            
+            lock.lock();
+            try {
+                lane = selectLane(System.nanoTime());
+                while (lane == null) {
+                    if (stopping && lanes.values().stream().allMatch(candidate -> candidate.queue.isEmpty())) {
+                        return;
+                    }
+                    workAvailable.await();
+                    lane = selectLane(System.nanoTime());
+                }
+                task = lane.queue.poll();
+                lane.inFlight++;
+                lane.notFull.signal();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            
+            lane.waitTimer.record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                execute(lane, task.runnable);
+            } finally {
+                lock.lock();
+                try {
+                    lane.inFlight--;
+                    // budget 때문에 대기하던 worker가 다시 선택할 수 있도록 깨움
+                    workAvailable.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+    
+    /**
+     * 다음에 처리할 lane 선택 (lock 보유 상태에서 호출)
+     */
+    private Lane selectLane(long now) {
+        Lane starved = null;
+        for (Lane lane : lanes.values()) {
+            if (lane.isRunnable() && now - lane.queue.peek().enqueuedAt >= starvationThresholdNanos
+                    && (starved == null || lane.queue.peek().enqueuedAt < starved.queue.peek().enqueuedAt)) {
+                starved = lane;
+            }
+        }
+        if (starved != null) {
+            return starved;
+        }
+        
+        for (Lane lane : lanes.values()) {
+            if (lane.isRunnable()) {
+                return lane;
+            }
+        }
+        return null;
+    }
+    
+    private void execute(Lane lane, Runnable task) {
+        try {
+            lane.executionTimer.record(task);
+        } catch (Exception e) {
+            lane.failedCounter.increment();
+            log.error("Failed to send {} lane notification", lane.type, e);
+        }
+    }
+    
+    private double queueDepth(Lane lane) {
+        lock.lock();
+        try {
+            return lane.queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private double inFlight(Lane lane) {
+        lock.lock();
+        try {
+            return lane.inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private record Task(Runnable runnable, long enqueuedAt) {
+    }
+    
+    /**
+     * lane 하나의 큐와 상태 (queue / inFlight는 lock으로 보호)
+     */
+    private static class Lane {
+    
+        private final NotificationLane type;
+        private final int capacity;
+        private final int maxWorkers;
+        private final Condition notFull;
+        private final ArrayDeque<Task> queue = new ArrayDeque<>();
+        private int inFlight;
+        
+        private final Timer waitTimer;
+        private final Timer executionTimer;
+        private final Counter overflowCounter;
+        private final Counter failedCounter;
+        
+        Lane(NotificationLane type, int capacity, int maxWorkers, Condition notFull, MeterRegistry meterRegistry) {
+            this.type = type;
+            this.capacity = capacity;
+            this.maxWorkers = maxWorkers;
+            this.notFull = notFull;
+            this.waitTimer = Timer.builder("notification.lane.wait")
+                    .description("Time a notification waited in its lane queue")
+                    .tag("lane", type.name())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            this.executionTimer = Timer.builder("notification.lane.execution")
+                    .description("Time spent sending a notification")
+                    .tag("lane", type.name())
+                    .register(meterRegistry);
+            this.overflowCounter = meterRegistry.counter("notification.lane.overflow", "lane", type.name());
+            this.failedCounter = meterRegistry.counter("notification.lane.failed", "lane", type.name());
+        }
+        
+        boolean isRunnable() {
+            return !queue.isEmpty() && inFlight < maxWorkers;
+        }
+    }
+}
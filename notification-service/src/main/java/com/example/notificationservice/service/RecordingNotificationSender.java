@@ -0,0 +1,42 @@
+package com.example.notificationservice.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실제 발송 대신 발송 내용을 기록하는 채널 (재처리 dry-run / 파일 출력)
+ */
+public abstract class RecordingNotificationSender implements NotificationSender {
+    
+    private final Map<String, LongAdder> sentByChannel = new ConcurrentHashMap<>();
+    
+    @Override
+    public void sendEmail(String to, String subject, String body) {
+        record("EMAIL", "EMAIL to=" + to + " subject=" + subject + " body=" + body);
+    }
+    
+    @Override
+    public void sendSms(String to, String message) {
+        record("SMS", "SMS to=" + to + " message=" + message);
+    }
+    
+    @Override
+    public void logToAuditSystem(String action, Long orderId, String details) {
+        record("AUDIT", "AUDIT action=" + action + " orderId=" + orderId + " details=" + details);
+    }
+    
+    public Map<String, Long> getSentByChannel() {
+        Map<String, Long> counts = new TreeMap<>();
+        sentByChannel.forEach((channel, count) -> counts.put(channel, count.sum()));
+        return counts;
+    }
+    
+    private void record(String channel, String line) {
+        sentByChannel.computeIfAbsent(channel, key -> new LongAdder()).increment();
+        write(line);
+    }
+    
+    protected abstract void write(String line);
+}
@@ -0,0 +1,366 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.consumer.OrderEventConverter;
+import com.example.notificationservice.model.DebeziumEvent;
+import com.example.notificationservice.model.OrderEvent;
+import com.example.notificationservice.model.ReplayMode;
+import com.example.notificationservice.model.ReplayReport;
+import com.example.notificationservice.model.ReplayRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CDC 이벤트 재처리 (장애 이후 특정 시간 구간 backfill)
+ * - 모든 파티션을 offsetsForTimes로 시작 ts_ms 위치로 이동
+ * - 시작 시점의 end offset 또는 종료 ts_ms까지 파티션 병렬로 최대 속도 소비
+ * - 별도 group id + assign 방식 + 커밋 없음 → 실시간 소비 그룹에 영향 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplayService {
+    
+    private static final int MAX_DRY_RUN_SAMPLES = 100;
+    
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final ObjectMapper objectMapper;
+    private final OrderEventConverter orderEventConverter;
+    private final NotificationService notificationService;
+    private final LoggingNotificationSender realSender;
+    
+    private final AtomicReference<ReplayRun> currentRun = new AtomicReference<>();
+    
+    @Value("${cdc.topics.orders}")
+    private String topic;
+    
+    @Value("${cdc.replay.group-id:notification-service-replay}")
+    private String groupId;
+    
+    @Value("${cdc.replay.output-dir:replay-output}")
+    private String outputDir;
+    
+    @Value("${cdc.replay.max-poll-records:2000}")
+    private int maxPollRecords;
+    
+    /**
+     * 재처리 시작 (한 번에 하나만 실행)
+     */
+    public ReplayReport start(ReplayRequest request) throws IOException {
+        if (request.getFromTimestamp() == null || request.getToTimestamp() == null) {
+            throw new IllegalArgumentException("fromTimestamp and toTimestamp are required");
+        }
+        if (request.getFromTimestamp() > request.getToTimestamp()) {
+            throw new IllegalArgumentException("fromTimestamp must not be after toTimestamp");
+        }
+        if (request.getParallelism() < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (request.getMode() == null) {
+            request.setMode(ReplayMode.DRY_RUN);
+        }
+        
+        ReplayRun run = new ReplayRun(request, groupId, createSender(request.getMode()));
+        ReplayRun previous = currentRun.get();
+        if ((previous != null && previous.status == ReplayReport.Status.RUNNING)
+                || !currentRun.compareAndSet(previous, run)) {
+            closeQuietly(run.sender);
+            throw new IllegalStateException("A replay is already running");
+        }
+        
+        Thread thread = new Thread(() -> execute(run), "cdc-replay");
+        thread.setDaemon(true);
+        thread.start();
+        return run.toReport();
+    }
+    
+    /**
+     * 현재(또는 마지막) 재처리 진행 상황
+     */
+    public ReplayReport getReport() {
+        ReplayRun run = currentRun.get();
+        return run != null ? run.toReport() : null;
+    }
+    
+    /**
+     * 실행 중인 재처리 취소
+     */
+    public ReplayReport cancel() {
+        ReplayRun run = currentRun.get();
+        if (run == null || run.status != ReplayReport.Status.RUNNING) {
+            throw new IllegalStateException("No replay is running");
+        }
+        run.cancelled = true;
+        return run.toReport();
+    }
+    
+    private void execute(ReplayRun run) {
+        ReplayRequest request = run.request;
+        log.info("Starting CDC replay: topic={}, from={}, to={}, mode={}, group={}",
+                topic, request.getFromTimestamp(), request.getToTimestamp(), request.getMode(), groupId);
+        
+        try {
+            Map<TopicPartition, Long> startOffsets = new TreeMap<>(
+                    (a, b) -> Integer.compare(a.partition(), b.partition()));
+            Map<TopicPartition, Long> endOffsets;
+            
+            try (Consumer<String, String> consumer = createConsumer("meta")) {
+                List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                        .map(info -> new TopicPartition(topic, info.partition()))
+                        .toList();
+                
+                Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(partitions.stream()
+                        .collect(Collectors.toMap(Function.identity(), tp -> request.getFromTimestamp())));
+                endOffsets = consumer.endOffsets(partitions);
+                
+                // 시작 ts_ms 이후 레코드가 없는 파티션은 제외
+                found.forEach((tp, offset) -> {
+                    if (offset != null && offset.offset() < endOffsets.get(tp)) {
+                        startOffsets.put(tp, offset.offset());
+                    }
+                });
+            }
+            
+            List<TopicPartition> targets = new ArrayList<>(startOffsets.keySet());
+            int workers = Math.max(1, Math.min(request.getParallelism(), targets.size()));
+            run.partitions = targets.size();
+            run.workers = workers;
+            
+            ExecutorService executor = Executors.newFixedThreadPool(workers);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int worker = 0; worker < workers; worker++) {
+                    List<TopicPartition> assigned = new ArrayList<>();
+                    for (int i = worker; i < targets.size(); i += workers) {
+                        assigned.add(targets.get(i));
+                    }
+                    int workerId = worker;
+                    futures.add(executor.submit(() ->
+                            replayPartitions(workerId, assigned, startOffsets, endOffsets, run)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            
+            run.finish(run.cancelled ? ReplayReport.Status.CANCELLED : ReplayReport.Status.COMPLETED, null);
+            
+        } catch (Exception e) {
+            log.error("CDC replay failed", e);
+            run.finish(ReplayReport.Status.FAILED, e.getMessage());
+        } finally {
+            closeQuietly(run.sender);
+        }
+        
+        ReplayReport report = run.toReport();
+        log.info("CDC replay {}: {} events in {} ms ({} events/s), by type: {}",
+                report.getStatus(), report.getEventsProcessed(), report.getElapsedMillis(),
+                String.format("%.1f", report.getEventsPerSecond()), report.getEventsByType());
+    }
+    
+    /**
+     * 파티션 워커: 할당된 파티션을 end offset / 종료 시각까지 소비
+     */
+    private void replayPartitions(int workerId, List<TopicPartition> assigned,
+                                  Map<TopicPartition, Long> startOffsets,
+                                  Map<TopicPartition, Long> endOffsets,
+                                  ReplayRun run) {
+        if (assigned.isEmpty()) {
+            return;
+        }
+        long toTimestamp = run.request.getToTimestamp();
+        
+        try (Consumer<String, String> consumer = createConsumer("worker-" + workerId)) {
+            consumer.assign(assigned);
+            assigned.forEach(tp -> consumer.seek(tp, startOffsets.get(tp)));
+            Set<TopicPartition> remaining = new HashSet<>(assigned);
+            
+            while (!remaining.isEmpty() && !run.cancelled) {
+                ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(500));
+                List<OrderEvent> events = new ArrayList<>(records.count());
+                
+                for (TopicPartition tp : records.partitions()) {
+                    if (!remaining.contains(tp)) {
+                        continue;
+                    }
+                    long endOffset = endOffsets.get(tp);
+                    for (ConsumerRecord<String, String> record : records.records(tp)) {
+                        if (record.offset() >= endOffset || record.timestamp() > toTimestamp) {
+                            remaining.remove(tp);
+                            break;
+                        }
+                        OrderEvent event = toBusinessEvent(record.value(), run);
+                        if (event != null) {
+                            events.add(event);
+                        }
+                    }
+                    if (remaining.contains(tp) && consumer.position(tp) >= endOffset) {
+                        remaining.remove(tp);
+                    }
+                    if (!remaining.contains(tp)) {
+                        consumer.pause(List.of(tp));
+                    }
+                }
+                
+                if (!events.isEmpty()) {
+                    notificationService.processOrderEvents(events, run.sender);
+                }
+            }
+        }
+    }
+    
+    /**
+     * CDC 메시지 -> 비즈니스 이벤트 (ts_ms 구간 밖의 이벤트는 제외)
+     */
+    private OrderEvent toBusinessEvent(String message, ReplayRun run) {
+        if (message == null) {
+            run.count("Tombstone");
+            return null;
+        }
+        try {
+            DebeziumEvent cdcEvent = objectMapper.readValue(message, DebeziumEvent.class);
+            Long timestamp = cdcEvent.getTimestamp();
+            if (timestamp == null || timestamp < run.request.getFromTimestamp()
+                    || timestamp > run.request.getToTimestamp()) {
+                run.count("OutOfRange");
+                return null;
+            }
+            
+            OrderEvent event = orderEventConverter.convert(cdcEvent);
+            run.count(event != null ? event.getClass().getSimpleName() : "Ignored");
+            return event;
+        } catch (Exception e) {
+            log.warn("Failed to parse CDC message during replay: {}", e.getMessage());
+            run.count("Failed");
+            return null;
+        }
+    }
+    
+    private Consumer<String, String> createConsumer(String clientIdSuffix) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        return consumerFactory.createConsumer(groupId, "replay-", clientIdSuffix, overrides);
+    }
+    
+    private NotificationSender createSender(ReplayMode mode) throws IOException {
+        return switch (mode) {
+            case REAL -> realSender;
+            case DRY_RUN -> new DryRunNotificationSender(MAX_DRY_RUN_SAMPLES);
+            case FILE -> new FileNotificationSender(
+                    Path.of(outputDir, "replay-" + System.currentTimeMillis() + ".log"));
+        };
+    }
+    
+    private void closeQuietly(NotificationSender sender) {
+        if (sender instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.warn("Failed to close replay output: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 재처리 실행 상태
+     */
+    private static class ReplayRun {
+        
+        private final ReplayRequest request;
+        private final String groupId;
+        private final NotificationSender sender;
+        private final Map<String, LongAdder> eventsByType = new ConcurrentHashMap<>();
+        private final LongAdder eventsProcessed = new LongAdder();
+        private final long startedNanos = System.nanoTime();
+        
+        private volatile ReplayReport.Status status = ReplayReport.Status.RUNNING;
+        private volatile boolean cancelled;
+        private volatile long finishedNanos;
+        private volatile int partitions;
+        private volatile int workers;
+        private volatile String error;
+        
+        ReplayRun(ReplayRequest request, String groupId, NotificationSender sender) {
+            this.request = request;
+            this.groupId = groupId;
+            this.sender = sender;
+        }
+        
+        void count(String type) {
+            eventsByType.computeIfAbsent(type, key -> new LongAdder()).increment();
+            eventsProcessed.increment();
+        }
+        
+        void finish(ReplayReport.Status status, String error) {
+            this.finishedNanos = System.nanoTime();
+            this.error = error;
+            this.status = status;
+        }
+        
+        ReplayReport toReport() {
+            long endNanos = status == ReplayReport.Status.RUNNING ? System.nanoTime() : finishedNanos;
+            long elapsedMillis = Duration.ofNanos(endNanos - startedNanos).toMillis();
+            long processed = eventsProcessed.sum();
+            
+            Map<String, Long> byType = new TreeMap<>();
+            eventsByType.forEach((type, count) -> byType.put(type, count.sum()));
+            
+            ReplayReport.ReplayReportBuilder report = ReplayReport.builder()
+                    .status(status)
+                    .mode(request.getMode())
+                    .groupId(groupId)
+                    .fromTimestamp(request.getFromTimestamp())
+                    .toTimestamp(request.getToTimestamp())
+                    .partitions(partitions)
+                    .workers(workers)
+                    .eventsProcessed(processed)
+                    .eventsPerSecond(elapsedMillis > 0 ? processed * 1000.0 / elapsedMillis : 0)
+                    .elapsedMillis(elapsedMillis)
+                    .eventsByType(byType)
+                    .error(error);
+            
+            if (sender instanceof RecordingNotificationSender recording) {
+                report.sentByChannel(recording.getSentByChannel());
+            }
+            if (sender instanceof DryRunNotificationSender dryRun) {
+                report.samples(dryRun.getSamples());
+            }
+            if (sender instanceof FileNotificationSender file) {
+                report.outputFile(file.getFile().toAbsolutePath().toString());
+            }
+            return report.build();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.model.CustomerContact;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 개발용 연락처 조회 (실제 구현에서는 고객 서비스 API 호출)
+ */
+public class StubContactDirectory implements ContactDirectory {
+    
+    @Override
+    public CustomerContact lookup(String customerName) {
+        return CustomerContact.builder()
+                .customerName(customerName)
+                .email(customerName + "@example.com")
+                .phone("+82-10-1234-5678")
+                .build();
+    }
+    
+    @Override
+    public Map<String, CustomerContact> lookupAll(Collection<String> customerNames) {
+        return customerNames.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), this::lookup));
+    }
+}
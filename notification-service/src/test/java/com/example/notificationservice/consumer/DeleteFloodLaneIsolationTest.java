@@ -0,0 +1,191 @@
+package com.example.notificationservice.consumer;
+
+import com.example.notificationservice.config.NotificationLaneProperties;
+import com.example.notificationservice.model.NotificationChannel;
+import com.example.notificationservice.model.NotificationLane;
+import com.example.notificationservice.service.CustomerRateLimiter;
+import com.example.notificationservice.service.FreshnessTracker;
+import com.example.notificationservice.service.LoggingNotificationSender;
+import com.example.notificationservice.service.NotificationDigestService;
+import com.example.notificationservice.service.NotificationService;
+import com.example.notificationservice.service.OrderItemJoiner;
+import com.example.notificationservice.service.OrderStatusDeduplicator;
+import com.example.notificationservice.service.PartitionStateStore;
+import com.example.notificationservice.service.PriorityLaneDispatcher;
+import com.example.notificationservice.service.StubContactDirectory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 삭제 폭주 중 배송 알림 지연 검증 (리스너 + NotificationService + lane 실행기)
+ * 고객 알림 리스너는 배치의 발송 완료까지 기다리므로, 삭제 감사 로그가 같은 리스너에 섞이면
+ * 다음 배치의 SHIPPED 알림이 LOW lane(worker 2개)이 비워질 때까지 소비되지 못합니다.
+ * 감사 전용 consumer가 폭주를 처리하는 동안 고객 알림 리스너의 SHIPPED 배치가 곧바로 발송되는지 확인합니다.
+ */
+class DeleteFloodLaneIsolationTest {
+    
+    private static final String ORDERS_TOPIC = "dbserver1.order_db.orders";
+    private static final String ITEMS_TOPIC = "dbserver1.order_db.order_items";
+    private static final int FLOOD = 2000;
+    private static final long SEND_MILLIS = 5;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger audits = new AtomicInteger();
+    private volatile boolean released;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private PriorityLaneDispatcher dispatcher;
+    private OrderCdcConsumer orderConsumer;
+    private OrderAuditCdcConsumer auditConsumer;
+    
+    @BeforeEach
+    void setUp() {
+        NotificationLaneProperties properties = new NotificationLaneProperties();
+        properties.setWorkers(4);
+        properties.getBudgets().put(NotificationLane.HIGH, budget(1000, 4));
+        properties.getBudgets().put(NotificationLane.LOW, budget(FLOOD, 2));
+        properties.getRoutes().put("OrderStatusChangedEvent",
+                Map.of(NotificationChannel.EMAIL, NotificationLane.HIGH, NotificationChannel.SMS, NotificationLane.HIGH));
+        properties.getRoutes().put("OrderDeletedEvent", Map.of(NotificationChannel.AUDIT, NotificationLane.LOW));
+        properties.setStarvationThreshold(Duration.ofMinutes(1));
+        
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new PriorityLaneDispatcher(properties, meterRegistry);
+        
+        FreshnessTracker freshnessTracker = mock(FreshnessTracker.class);
+        NotificationService notificationService = new NotificationService(
+                new StubContactDirectory(), new SlowSender(), freshnessTracker,
+                mock(CustomerRateLimiter.class), mock(NotificationDigestService.class), meterRegistry, dispatcher);
+        OrderEventConverter converter = new OrderEventConverter();
+        OrderStatusDeduplicator deduplicator =
+                new OrderStatusDeduplicator(mock(PartitionStateStore.class), meterRegistry, Duration.ofDays(7));
+        
+        orderConsumer = new OrderCdcConsumer(objectMapper, converter, notificationService, deduplicator,
+                freshnessTracker, mock(OrderItemJoiner.class), mock(OrderItemCdcConsumer.class));
+        ReflectionTestUtils.setField(orderConsumer, "orderItemsTopic", ITEMS_TOPIC);
+        auditConsumer = new OrderAuditCdcConsumer(objectMapper, converter, notificationService, freshnessTracker);
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        // 남은 flood 작업은 바로 끝나도록 풀어준 뒤 drain
+        released = true;
+        dispatcher.shutdown();
+    }
+    
+    @Test
+    void shippedLatencyStaysFlatDuringDeleteFlood() throws Exception {
+        List<ConsumerRecord<String, String>> flood = new ArrayList<>(FLOOD);
+        for (int i = 0; i < FLOOD; i++) {
+            flood.add(record(i, deleted(i)));
+        }
+        
+        // 고객 알림 리스너는 삭제를 발송하지 않으므로 폭주 배치도 바로 반환
+        long floodStartedAt = System.nanoTime();
+        orderConsumer.consumeOrderChanges(flood);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - floodStartedAt)).isLessThan(1000);
+        assertThat(audits.get()).isZero();
+        
+        CompletableFuture<Void> auditing = CompletableFuture.runAsync(() -> auditConsumer.consumeOrderDeletions(flood));
+        
+        List<Long> shippedMillis = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            long orderId = FLOOD + i;
+            long polledAt = System.nanoTime();
+            // 리스너가 반환하는 시점 = SHIPPED 이메일 / SMS 발송 완료 (다음 poll 가능)
+            orderConsumer.consumeOrderChanges(List.of(record(orderId, shipped(orderId))));
+            shippedMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - polledAt));
+            Thread.sleep(10);
+        }
+        
+        // 2 worker로 처리되는 감사 로그는 아직 한참 남아 있어야 의미 있는 측정
+        assertThat(auditing).isNotDone();
+        assertThat(queueDepth(NotificationLane.LOW)).isGreaterThan(FLOOD / 2);
+        assertThat(shippedMillis).allSatisfy(latency -> assertThat(latency).isLessThan(100));
+        
+        released = true;
+        auditing.get(10, TimeUnit.SECONDS);
+        assertThat(audits.get()).isEqualTo(FLOOD);
+    }
+    
+    private ConsumerRecord<String, String> record(long orderId, String value) {
+        return new ConsumerRecord<>(ORDERS_TOPIC, (int) (orderId % 3), orderId, "{\"id\":" + orderId + "}", value);
+    }
+    
+    private static String deleted(long orderId) {
+        return "{\"before\":" + order(orderId, "CANCELLED") + ",\"after\":null,"
+                + "\"source\":{\"table\":\"orders\",\"ts_ms\":" + System.currentTimeMillis() + "},"
+                + "\"op\":\"d\",\"ts_ms\":" + System.currentTimeMillis() + "}";
+    }
+    
+    private static String shipped(long orderId) {
+        return "{\"before\":" + order(orderId, "APPROVED") + ",\"after\":" + order(orderId, "SHIPPED") + ","
+                + "\"source\":{\"table\":\"orders\",\"ts_ms\":" + System.currentTimeMillis() + "},"
+                + "\"op\":\"u\",\"ts_ms\":" + System.currentTimeMillis() + "}";
+    }
+    
+    private static String order(long orderId, String status) {
+        return "{\"id\":" + orderId + ",\"order_number\":\"ORD-" + orderId + "\","
+                + "\"customer_name\":\"customer-" + orderId + "\",\"status\":\"" + status + "\"}";
+    }
+    
+    private double queueDepth(NotificationLane lane) {
+        return meterRegistry.get("notification.lane.queue.depth").tag("lane", lane.name()).gauge().value();
+    }
+    
+    private static NotificationLaneProperties.Budget budget(int capacity, int maxWorkers) {
+        NotificationLaneProperties.Budget budget = new NotificationLaneProperties.Budget();
+        budget.setCapacity(capacity);
+        budget.setMaxWorkers(maxWorkers);
+        return budget;
+    }
+    
+    /**
+     * 발송마다 외부 API 호출 시간만큼 걸리는 발송 채널
+     */
+    private class SlowSender extends LoggingNotificationSender {
+    
+        @Override
+        public void sendEmail(String to, String subject, String body) {
+            slowSend();
+        }
+        
+        @Override
+        public void sendSms(String to, String message) {
+            slowSend();
+        }
+        
+        @Override
+        public void logToAuditSystem(String action, Long orderId, String details) {
+            slowSend();
+            audits.incrementAndGet();
+        }
+        
+        private void slowSend() {
+            if (released) {
+                return;
+            }
+            try {
+                Thread.sleep(SEND_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.consumer.PartitionStateRebalanceListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.condition.EmbeddedKafkaCondition;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 파티션 상태 저장소의 리밸런스 이관 검증
+ * 두 인스턴스(리스너 컨테이너 + 상태 저장소) 사이에서 파티션을 여러 번 주고받으며,
+ * 파티션을 넘겨받은 쪽의 상태가 매번 changelog(+ 로컬 checkpoint)로 정확히 복원되는지 확인합니다.
+ */
+@EmbeddedKafka(partitions = 2, topics = PartitionStateStoreRebalanceTest.TOPIC)
+class PartitionStateStoreRebalanceTest {
+    
+    static final String TOPIC = "state-rebalance-orders";
+    
+    private static final String GROUP = "state-rebalance-test";
+    private static final String CHANGELOG_PREFIX = "state-rebalance-test";
+    private static final int KEYS = 20;
+    
+    @TempDir
+    Path tempDir;
+    
+    private EmbeddedKafkaBroker broker;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private DefaultKafkaConsumerFactory<String, String> consumerFactory;
+    private KafkaAdmin kafkaAdmin;
+    
+    private final Map<String, Integer> expectedCounts = new HashMap<>();
+    private final Map<String, TopicPartition> partitionOfKey = new HashMap<>();
+    private final AtomicInteger processed = new AtomicInteger();
+    private int sent;
+    
+    @BeforeEach
+    void setUp() {
+        broker = EmbeddedKafkaCondition.getBroker();
+        
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+        
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(GROUP, "false", broker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerFactory = new DefaultKafkaConsumerFactory<>(consumerProps);
+        
+        kafkaAdmin = new KafkaAdmin(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        kafkaTemplate.destroy();
+    }
+    
+    @Test
+    void stateFollowsPartitionsAcrossRepeatedRebalances() throws Exception {
+        Instance a = new Instance("a");
+        Instance b = new Instance("b");
+        
+        a.start();
+        ContainerTestUtils.waitForAssignment(a.container, 2);
+        produce(100);
+        awaitProcessed();
+        assertRestored(a);
+        
+        Instance owner = a;
+        Instance other = b;
+        for (int round = 0; round < 4; round++) {
+            // 두 인스턴스가 나눠 가진 상태에서 처리
+            other.start();
+            awaitAssignment(owner, 1);
+            awaitAssignment(other, 1);
+            produce(50);
+            awaitProcessed();
+            
+            // 기존 소유자가 빠지면 모든 파티션이 넘어감 → 넘겨받은 상태가 정확해야 함
+            owner.stop();
+            awaitAssignment(other, 2);
+            assertRestored(other);
+            produce(50);
+            awaitProcessed();
+            assertRestored(other);
+            
+            Instance previous = owner;
+            owner = other;
+            other = previous;
+        }
+        owner.stop();
+        
+        // changelog는 소스 토픽과 같은 파티션 수로 만들어져 파티션 번호가 1:1로 대응
+        String changelogTopic = CHANGELOG_PREFIX + "-" + TOPIC + "-changelog";
+        assertThat(kafkaAdmin.describeTopics(changelogTopic).get(changelogTopic).partitions()).hasSize(2);
+    }
+    
+    private void produce(int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            String key = "order:" + (sent % KEYS);
+            int partition = kafkaTemplate.send(TOPIC, key, "event-" + sent).get().getRecordMetadata().partition();
+            partitionOfKey.put(key, new TopicPartition(TOPIC, partition));
+            expectedCounts.merge(key, 1, Integer::sum);
+            sent++;
+        }
+    }
+    
+    private void awaitProcessed() {
+        await().atMost(Duration.ofSeconds(30)).until(() -> processed.get() >= sent);
+        // 재전달로 두 번 센 레코드가 없어야 함 (회수 전에 오프셋과 상태가 함께 넘어감)
+        assertThat(processed.get()).isEqualTo(sent);
+    }
+    
+    private void awaitAssignment(Instance instance, int partitions) {
+        await().atMost(Duration.ofSeconds(30)).until(() -> instance.assignedPartitions() == partitions);
+    }
+    
+    private void assertRestored(Instance instance) {
+        expectedCounts.forEach((key, count) -> assertThat(instance.store.get(partitionOfKey.get(key), key))
+                .as("restored count of %s on instance %s", key, instance.name)
+                .isEqualTo(String.valueOf(count)));
+    }
+    
+    /**
+     * 인스턴스 하나 (시작할 때마다 같은 로컬 디렉터리로 새 저장소를 만들어 재기동을 흉내냄)
+     * 스냅샷 재작성 기준을 키 수보다 작게 두어 회수 시 flush가 스냅샷과 증분 로그를 번갈아 씀
+     */
+    private class Instance {
+    
+        private final String name;
+        private final Map<TopicPartition, Boolean> assigned = new ConcurrentHashMap<>();
+        private PartitionStateStore store;
+        private KafkaMessageListenerContainer<String, String> container;
+        
+        Instance(String name) {
+            this.name = name;
+        }
+        
+        void start() {
+            store = new PartitionStateStore(kafkaTemplate, consumerFactory, kafkaAdmin, new ObjectMapper(),
+                    new SimpleMeterRegistry(), tempDir.resolve(name).toString(), CHANGELOG_PREFIX, 1,
+                    Duration.ofSeconds(30), KEYS / 2);
+            PartitionStateStore instanceStore = store;
+            
+            ContainerProperties properties = new ContainerProperties(TOPIC);
+            properties.setGroupId(GROUP);
+            properties.setClientId("state-rebalance-" + name);
+            properties.setPollTimeout(100);
+            properties.setConsumerRebalanceListener(new PartitionStateRebalanceListener(instanceStore, mock(OrderItemJoiner.class)) {
+                @Override
+                public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                    super.onPartitionsRevokedBeforeCommit(consumer, partitions);
+                    partitions.forEach(assigned::remove);
+                }
+                
+                @Override
+                public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                    super.onPartitionsAssigned(consumer, partitions);
+                    partitions.forEach(partition -> assigned.put(partition, Boolean.TRUE));
+                }
+            });
+            properties.setMessageListener((BatchMessageListener<String, String>) records -> {
+                for (ConsumerRecord<String, String> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    String current = instanceStore.get(partition, record.key());
+                    instanceStore.put(partition, record.key(),
+                            String.valueOf(current == null ? 1 : Integer.parseInt(current) + 1));
+                }
+                instanceStore.awaitChangelog();
+                processed.addAndGet(records.size());
+            });
+            
+            container = new KafkaMessageListenerContainer<>(consumerFactory, properties);
+            container.setBeanName("state-rebalance-" + name);
+            container.start();
+        }
+        
+        void stop() {
+            container.stop();
+            assigned.clear();
+        }
+        
+        int assignedPartitions() {
+            return assigned.size();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.notificationservice.service;
+
+import com.example.notificationservice.config.NotificationLaneProperties;
+import com.example.notificationservice.model.NotificationLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriorityLaneDispatcherTest {
+    
+    private static final int FLOOD = 2000;
+    private static final long SEND_MILLIS = 5;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private PriorityLaneDispatcher dispatcher;
+    private volatile boolean released;
+    
+    @BeforeEach
+    void setUp() {
+        NotificationLaneProperties properties = new NotificationLaneProperties();
+        properties.setWorkers(4);
+        properties.getBudgets().put(NotificationLane.HIGH, budget(1000, 4));
+        properties.getBudgets().put(NotificationLane.LOW, budget(FLOOD, 2));
+        properties.setStarvationThreshold(Duration.ofMinutes(1));
+        
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new PriorityLaneDispatcher(properties, meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        // 남은 flood 작업은 바로 끝나도록 풀어준 뒤 drain
+        released = true;
+        dispatcher.shutdown();
+    }
+    
+    @Test
+    void highLaneWaitStaysFlatDuringLowLaneFlood() throws Exception {
+        for (int i = 0; i < FLOOD; i++) {
+            dispatcher.submit(NotificationLane.LOW, this::slowSend);
+        }
+        
+        List<Long> highWaitMillis = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> highSends = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            long submittedAt = System.nanoTime();
+            CompletableFuture<Void> sent = new CompletableFuture<>();
+            highSends.add(sent);
+            dispatcher.submit(NotificationLane.HIGH, () -> {
+                highWaitMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt));
+                slowSend();
+                sent.complete(null);
+            });
+            Thread.sleep(10);
+        }
+        CompletableFuture.allOf(highSends.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        
+        // 2 worker로 처리되는 flood는 아직 한참 남아 있어야 의미 있는 측정
+        assertThat(queueDepth(NotificationLane.LOW)).isGreaterThan(FLOOD / 2);
+        assertThat(highWaitMillis).hasSize(50);
+        assertThat(highWaitMillis).allSatisfy(wait -> assertThat(wait).isLessThan(100));
+        assertThat(meterRegistry.get("notification.lane.wait").tag("lane", "HIGH").timer()
+                .max(TimeUnit.MILLISECONDS)).isLessThan(100);
+    }
+    
+    @Test
+    void lowLaneNeverUsesMoreThanItsWorkerBudget() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(100);
+        
+        for (int i = 0; i < 100; i++) {
+            dispatcher.submit(NotificationLane.LOW, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                slowSend();
+                running.decrementAndGet();
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+            });
+        }
+        done.get(10, TimeUnit.SECONDS);
+        
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+    
+    @Test
+    void starvedLowLaneIsServedBeforeNewerHighWork() throws Exception {
+        NotificationLaneProperties properties = new NotificationLaneProperties();
+        properties.setWorkers(1);
+        properties.setStarvationThreshold(Duration.ofMillis(50));
+        SimpleMeterRegistry singleRegistry = new SimpleMeterRegistry();
+        PriorityLaneDispatcher single = new PriorityLaneDispatcher(properties, singleRegistry);
+        
+        try {
+            CompletableFuture<Void> lowSent = new CompletableFuture<>();
+            submitMany(single, NotificationLane.HIGH, 20);
+            single.submit(NotificationLane.LOW, () -> lowSent.complete(null));
+            submitMany(single, NotificationLane.HIGH, 200);
+            
+            // HIGH가 계속 밀려 있어도 임계값을 넘긴 LOW 작업은 HIGH 큐가 비기 전에 처리됨
+            lowSent.get(5, TimeUnit.SECONDS);
+            assertThat(singleRegistry.get("notification.lane.queue.depth").tag("lane", "HIGH").gauge().value())
+                    .isGreaterThan(0);
+        } finally {
+            released = true;
+            single.shutdown();
+        }
+    }
+    
+    private void submitMany(PriorityLaneDispatcher target, NotificationLane lane, int tasks) {
+        for (int i = 0; i < tasks; i++) {
+            target.submit(lane, this::slowSend);
+        }
+    }
+    
+    private void slowSend() {
+        if (released) {
+            return;
+        }
+        try {
+            Thread.sleep(SEND_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private double queueDepth(NotificationLane lane) {
+        return meterRegistry.get("notification.lane.queue.depth").tag("lane", lane.name()).gauge().value();
+    }
+    
+    private static NotificationLaneProperties.Budget budget(int capacity, int maxWorkers) {
+        NotificationLaneProperties.Budget budget = new NotificationLaneProperties.Budget();
+        budget.setCapacity(capacity);
+        budget.setMaxWorkers(maxWorkers);
+        return budget;
+    }
+}
@@ -0,0 +1,132 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * order-service 부하 측정 도구 (JDK 21 single-file 실행, 외부 의존성 없음)
+ * 사용법: java LoadHarness.java <baseUrl> <mix: create|read|status|mixed> <concurrency> <seconds>
+ */
+public class LoadHarness {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080/api/orders";
+        String mix = args.length > 1 ? args[1] : "mixed";
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // 조회/상태 변경용 주문 미리 생성
+        List<Long> seedIds = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            seedIds.add(createOrder(client, baseUrl));
+        }
+        ConcurrentLinkedQueue<Long> pendingIds = new ConcurrentLinkedQueue<>(seedIds);
+
+        // 복제본 라우팅 측정 시 시드 주문이 복제될 때까지 대기 (-Dharness.settleMillis)
+        Thread.sleep(Long.getLong("harness.settleMillis", 0));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ConcurrentLinkedQueue<long[]> samples = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.submit(() -> {
+                    long[] latencies = new long[1 << 20];
+                    int count = 0;
+                    while (System.nanoTime() < deadline && count < latencies.length) {
+                        long start = System.nanoTime();
+                        try {
+                            runOperation(client, baseUrl, mix, seedIds, pendingIds);
+                            latencies[count++] = System.nanoTime() - start;
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    samples.add(Arrays.copyOf(latencies, count));
+                    return null;
+                });
+            }
+        }
+
+        long[] all = samples.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("mix=%s concurrency=%d duration=%ds requests=%d errors=%d%n",
+                mix, concurrency, seconds, all.length, errors.get());
+        System.out.printf("throughput=%.1f req/s p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                all.length / (double) seconds,
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 1.0));
+    }
+
+    private static void runOperation(HttpClient client, String baseUrl, String mix,
+                                     List<Long> seedIds, ConcurrentLinkedQueue<Long> pendingIds) throws Exception {
+        String operation = mix;
+        if ("mixed".equals(mix)) {
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            operation = roll < 20 ? "create" : roll < 90 ? "read" : "status";
+        }
+        switch (operation) {
+            case "create" -> pendingIds.add(createOrder(client, baseUrl));
+            case "read" -> {
+                Long id = seedIds.get(ThreadLocalRandom.current().nextInt(seedIds.size()));
+                send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET().build());
+            }
+            case "status" -> {
+                Long id = pendingIds.poll();
+                if (id == null) {
+                    id = createOrder(client, baseUrl);
+                }
+                send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/" + id + "/status"))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\": \"APPROVED\"}"))
+                        .build());
+            }
+            default -> throw new IllegalArgumentException("Unknown mix: " + mix);
+        }
+    }
+
+    private static Long createOrder(HttpClient client, String baseUrl) throws Exception {
+        String body = send(client, HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"customerName\": \"load-test\", \"totalAmount\": 1000}"))
+                .build());
+        Matcher matcher = ID_PATTERN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Order id not found in response: " + body);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static String send(HttpClient client, HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,56 @@
+#!/bin/bash
+
+# Bulk Status Benchmark
+# 개별 PATCH /api/orders/{orderId}/status 호출과 PATCH /api/orders/status 벌크 호출의 소요 시간을 비교합니다.
+# 사용법: ./bulk-status-benchmark.sh [주문 수] [동시 요청 수]
+# 인프라 없이 H2에서 1만 건 벌크 전환만 측정하려면: ./gradlew test --tests '*OrderServiceBulkStatusTest' -i
+echo "========================================="
+echo "⏱️  Bulk Status Transition Benchmark"
+echo "========================================="
+
+BASE_URL="${BASE_URL:-http://localhost:8080/api/orders}"
+COUNT="${1:-10000}"
+PARALLEL="${2:-16}"
+
+create_orders() {
+  seq 1 "$COUNT" | xargs -P "$PARALLEL" -I{} curl -s -X POST "$BASE_URL" \
+    -H "Content-Type: application/json" \
+    -d '{"customerName": "bulk-{}", "totalAmount": 1000}' \
+    | jq -r '.data.id'
+}
+
+now_ms() {
+  date +%s%3N
+}
+
+# Step 1: 개별 호출 기준 측정용 주문 생성
+echo ""
+echo "📦 Step 1: Creating $COUNT orders for per-order updates..."
+SINGLE_IDS=$(create_orders)
+
+echo "🐢 Approving orders one by one ($PARALLEL parallel requests)..."
+START=$(now_ms)
+echo "$SINGLE_IDS" | xargs -P "$PARALLEL" -I{} curl -s -o /dev/null -X PATCH "$BASE_URL/{}/status" \
+  -H "Content-Type: application/json" \
+  -d '{"status": "APPROVED"}'
+SINGLE_ELAPSED=$(( $(now_ms) - START ))
+
+# Step 2: 벌크 호출 측정용 주문 생성
+echo ""
+echo "📦 Step 2: Creating $COUNT orders for bulk update..."
+BULK_IDS=$(create_orders | jq -s -c '.')
+
+echo "🚀 Approving orders with a single bulk request..."
+START=$(now_ms)
+BULK_RESPONSE=$(curl -s -X PATCH "$BASE_URL/status" \
+  -H "Content-Type: application/json" \
+  -d "{\"status\": \"APPROVED\", \"orderIds\": $BULK_IDS}")
+BULK_ELAPSED=$(( $(now_ms) - START ))
+
+echo "$BULK_RESPONSE" | jq '{success, message, updatedCount: .data.updatedCount, rejectedCount: .data.rejectedCount}'
+
+echo ""
+echo "========================================="
+echo "Per-order updates: ${SINGLE_ELAPSED} ms"
+echo "Bulk update:       ${BULK_ELAPSED} ms"
+echo "========================================="
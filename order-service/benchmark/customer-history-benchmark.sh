@@ -0,0 +1,31 @@
+#!/bin/bash
+
+# Customer Order History Benchmark
+# H2 파일 DB에 1천만 건을 적재한 뒤 고객별 keyset 조회의 실행 계획과 소요 시간을 출력합니다.
+# 사용법: ./customer-history-benchmark.sh
+echo "========================================="
+echo "🔎 Customer History Index Benchmark (H2, 10M rows)"
+echo "========================================="
+
+cd "$(dirname "$0")"
+
+H2_JAR=$(find ~/.gradle/caches -name 'h2-*.jar' ! -name '*sources*' | sort | tail -n 1)
+if [ -z "$H2_JAR" ]; then
+  echo "❌ H2 jar not found. Run './gradlew build' in order-service first."
+  exit 1
+fi
+
+DB_DIR=$(mktemp -d)
+START=$(date +%s)
+
+java -Xmx4g -cp "$H2_JAR" org.h2.tools.RunScript \
+  -url "jdbc:h2:file:$DB_DIR/orders" \
+  -user sa \
+  -script customer-history-h2.sql \
+  -showResults
+
+echo ""
+echo "Total elapsed (including data load): $(( $(date +%s) - START )) s"
+echo "Check each EXPLAIN ANALYZE plan for idx_orders_customer_created_id / idx_orders_status_id and scanned row counts."
+
+rm -rf "$DB_DIR"
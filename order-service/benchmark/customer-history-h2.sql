@@ -0,0 +1,61 @@
+-- Customer Order History Benchmark (H2)
+-- 1천만 건의 주문을 생성하고, 고객별 이력 조회가 인덱스만으로 처리되는지 실행 계획과 함께 확인합니다.
+-- 테이블/인덱스 정의는 Order 엔티티(@Table indexes)와 동일합니다.
+
+DROP TABLE IF EXISTS orders;
+
+CREATE TABLE orders (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number VARCHAR(50) NOT NULL UNIQUE,
+    customer_name VARCHAR(100) NOT NULL,
+    total_amount NUMERIC(38, 2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    notes VARCHAR(500),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+-- 10,000,000 주문 / 100,000 고객 (고객당 평균 100건)
+INSERT INTO orders (id, order_number, customer_name, total_amount, status, created_at, updated_at)
+SELECT X,
+       'ORD-' || X,
+       'customer-' || MOD(X, 100000),
+       MOD(X, 100000) + 1000,
+       CASE MOD(X, 5) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'APPROVED' WHEN 2 THEN 'SHIPPED'
+                      WHEN 3 THEN 'DELIVERED' ELSE 'CANCELLED' END,
+       DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'),
+       DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00')
+FROM SYSTEM_RANGE(1, 10000000);
+
+CREATE INDEX idx_orders_status_id ON orders (status, id);
+CREATE INDEX idx_orders_customer_created_id ON orders (customer_name, created_at, id);
+
+ANALYZE;
+
+-- 고객별 이력 첫 페이지 (인덱스 전용 키 조회)
+EXPLAIN ANALYZE
+SELECT id, created_at FROM orders
+WHERE customer_name = 'customer-4242'
+ORDER BY created_at DESC, id DESC
+FETCH FIRST 21 ROWS ONLY;
+
+-- 고객별 이력 다음 페이지 (keyset 커서 이후)
+EXPLAIN ANALYZE
+SELECT id, created_at FROM orders
+WHERE customer_name = 'customer-4242'
+  AND (created_at < TIMESTAMP '2024-06-01 00:00:00'
+       OR (created_at = TIMESTAMP '2024-06-01 00:00:00' AND id < 9999999))
+ORDER BY created_at DESC, id DESC
+FETCH FIRST 21 ROWS ONLY;
+
+-- 페이지 요약 컬럼 조회 (PK lookup)
+EXPLAIN ANALYZE
+SELECT id, order_number, customer_name, total_amount, status, created_at FROM orders
+WHERE id IN (4242, 104242, 204242, 304242, 404242);
+
+-- 상태별 조회 (status, id 인덱스)
+EXPLAIN ANALYZE
+SELECT id FROM orders
+WHERE status = 'PENDING' AND id > 5000000
+ORDER BY id
+FETCH FIRST 500 ROWS ONLY;
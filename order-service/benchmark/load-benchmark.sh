@@ -0,0 +1,57 @@
+#!/bin/bash
+
+# Thread Model Load Benchmark
+# H2 인메모리 DB로 order-service를 플랫폼 스레드 / 가상 스레드 모드로 각각 기동하고
+# create / read / status / mixed 부하의 처리량과 p99를 비교합니다. (MySQL, Kafka 불필요)
+# 사용법: ./load-benchmark.sh [동시 요청 수] [측정 시간(초)]
+echo "========================================="
+echo "🧵 Platform vs Virtual Thread Benchmark"
+echo "========================================="
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY="${1:-200}"
+SECONDS_PER_MIX="${2:-30}"
+PORT=18080
+BASE_URL="http://localhost:$PORT/api/orders"
+
+./gradlew -q bootJar || exit 1
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+run_mode() {
+  local profiles=$1
+  echo ""
+  echo "▶️  Profiles: $profiles"
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+    --spring.profiles.active="$profiles" --server.port=$PORT > "build/load-$profiles.log" 2>&1 &
+  local pid=$!
+
+  for i in {1..60}; do
+    if curl -s "$BASE_URL" > /dev/null; then
+      break
+    fi
+    sleep 1
+  done
+
+  for mix in create read status mixed; do
+    java benchmark/LoadHarness.java "$BASE_URL" "$mix" "$CONCURRENCY" "$SECONDS_PER_MIX"
+  done
+
+  kill $pid
+  wait $pid 2>/dev/null
+
+  # 가상 스레드가 monitor를 잡은 채 블로킹되면(pinning) JDK가 스택을 출력합니다 (-Djdk.tracePinnedThreads=short).
+  # monitor를 잡고 있던 프레임만 모아 build/pinned-frames-<profiles>.txt에 기록합니다.
+  local frames="build/pinned-frames-${profiles//,/-}.txt"
+  grep '<== monitors' "build/load-$profiles.log" | sed 's/^[[:space:]]*//' | sort | uniq -c | sort -rn > "$frames"
+  echo "Pinned frames: $(wc -l < "$frames") distinct (see $frames)"
+  head -n 10 "$frames"
+}
+
+run_mode "h2"
+run_mode "h2,virtual-threads"
+
+echo ""
+echo "========================================="
+echo "✅ Benchmark completed!"
+echo "========================================="
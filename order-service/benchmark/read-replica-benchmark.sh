@@ -0,0 +1,51 @@
+#!/bin/bash
+
+# Read Replica Routing Benchmark
+# H2 인메모리 DB로 order-service를 단일 primary / primary + 복제본(두 번째 H2) 모드로 각각 기동하고
+# read / mixed 부하의 처리량과 p99를 비교합니다. (MySQL, Kafka 불필요)
+# 두 H2가 같은 JVM에서 동작하므로 차이는 주로 커넥션 풀 분리(쓰기와 읽기가 같은 풀을 두고 경합하는지)에서 나옵니다.
+# 사용법: ./read-replica-benchmark.sh [동시 요청 수] [측정 시간(초)]
+echo "========================================="
+echo "📚 Primary-only vs Read Replica Routing Benchmark"
+echo "========================================="
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY="${1:-200}"
+SECONDS_PER_MIX="${2:-30}"
+PORT=18080
+BASE_URL="http://localhost:$PORT/api/orders"
+
+./gradlew -q bootJar || exit 1
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+run_mode() {
+  local profiles=$1
+  echo ""
+  echo "▶️  Profiles: $profiles"
+  java -jar "$JAR" --spring.profiles.active="$profiles" --server.port=$PORT \
+    --spring.datasource.hikari.maximum-pool-size=10 > "build/replica-$profiles.log" 2>&1 &
+  local pid=$!
+
+  for i in {1..60}; do
+    if curl -s "$BASE_URL" > /dev/null; then
+      break
+    fi
+    sleep 1
+  done
+
+  for mix in read mixed; do
+    java -Dharness.settleMillis=1000 benchmark/LoadHarness.java "$BASE_URL" "$mix" "$CONCURRENCY" "$SECONDS_PER_MIX"
+  done
+
+  kill $pid
+  wait $pid 2>/dev/null
+}
+
+run_mode "h2"
+run_mode "h2,replica-h2"
+
+echo ""
+echo "========================================="
+echo "✅ Benchmark completed!"
+echo "========================================="
@@ -2,11 +2,17 @@ package com.example.orderservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.TimeZone;
 
 @SpringBootApplication
+@EnableScheduling
 public class OrderServiceApplication {
 
     public static void main(String[] args) {
+        // LocalDateTime.now()로 기록하는 DATETIME 컬럼을 Debezium이 UTC로 읽으므로 JVM 기본 시간대를 UTC로 고정
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
         SpringApplication.run(OrderServiceApplication.class, args);
     }
 }
@@ -0,0 +1,52 @@
+package com.example.orderservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정 (order.datasource.routing)
+ */
+@Data
+@ConfigurationProperties(prefix = "order.datasource.routing")
+public class DataSourceRoutingProperties {
+    
+    private boolean enabled;
+    
+    private List<Replica> replicas = new ArrayList<>();
+    
+    /**
+     * 복제본 상태 점검 주기와 점검 쿼리(Connection.isValid) 제한 시간
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+    
+    private ReadYourWrites readYourWrites = new ReadYourWrites();
+    
+    @Data
+    public static class Replica {
+        
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 20;
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+    }
+    
+    /**
+     * 쓰기 직후 같은 호출자의 읽기는 복제 지연(window) 동안 primary에서 처리
+     */
+    @Data
+    public static class ReadYourWrites {
+        
+        private String header = "X-Client-Id";
+        private Duration window = Duration.ofSeconds(5);
+        private int maxCallers = 100000;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.orderservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로컬 검증용 H2 복제 흉내 (replica-h2 프로파일 전용)
+ * primary H2의 스키마를 복제본 H2에 만들고, 주기적으로 모든 테이블의 변경분을 복사해 비동기 복제 지연을 재현합니다.
+ *
+ * - 추가/변경: 테이블별 변경 시각 컬럼이 watermark 이후인 행을 MERGE (컬럼이 없는 테이블은 전체 MERGE)
+ * - 삭제: primary에 없는 id를 복제본에서 삭제 (아카이브 이관, Outbox 정리 등)
+ */
+@Slf4j
+@Component
+@Profile("replica-h2")
+public class H2ReplicationSimulator {
+    
+    private static final Duration OVERLAP = Duration.ofSeconds(1);
+    
+    /**
+     * 테이블별 변경 시각 컬럼 (insert만 되거나 변경 직후 삭제되는 테이블은 생성/이관 시각)
+     * 아카이브 테이블의 updated_at은 원본 값을 복사한 것이므로 archived_at 기준
+     */
+    private static final Map<String, String> CHANGE_COLUMNS = Map.of(
+            "ORDERS", "UPDATED_AT",
+            "ORDER_ITEMS", "CREATED_AT",
+            "ORDER_OUTBOX", "CREATED_AT",
+            "ORDERS_ARCHIVE", "ARCHIVED_AT",
+            "ORDER_ITEMS_ARCHIVE", "ARCHIVED_AT");
+    
+    private final JdbcTemplate primary;
+    private final List<JdbcTemplate> replicas;
+    
+    private volatile boolean ready;
+    private List<String> tables = List.of();
+    private LocalDateTime watermark = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
+    public H2ReplicationSimulator(HikariDataSource primaryDataSource, ReplicaSelector replicaSelector) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replicas = replicaSelector.getReplicas().values().stream()
+                .map(JdbcTemplate::new)
+                .toList();
+    }
+    
+    /**
+     * Hibernate가 primary에 만든 스키마를 복제본에 그대로 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void copySchema() {
+        List<String> ddl = primary.queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(statement -> !statement.startsWith("CREATE USER"))
+                .toList();
+        for (JdbcTemplate replica : replicas) {
+            replica.execute("DROP ALL OBJECTS");
+            ddl.forEach(replica::execute);
+        }
+        tables = primary.queryForList("SELECT table_name FROM information_schema.tables "
+                + "WHERE table_schema = 'PUBLIC' AND table_type = 'BASE TABLE'", String.class);
+        ready = true;
+        log.info("Copied {} schema statements ({} tables) to {} H2 replicas", ddl.size(), tables.size(), replicas.size());
+    }
+    
+    /**
+     * 마지막 동기화 이후 변경분 복사 (주기 = 복제 지연)
+     */
+    @Scheduled(fixedDelayString = "${order.datasource.routing.simulated-replication-lag:PT0.2S}",
+            initialDelayString = "${order.datasource.routing.simulated-replication-lag:PT0.2S}")
+    public void replicate() {
+        if (!ready) {
+            return;
+        }
+        
+        LocalDateTime syncStartedAt = LocalDateTime.now();
+        for (String table : tables) {
+            copyChangedRows(table);
+            removeDeletedRows(table);
+        }
+        
+        // 커밋이 늦게 된 행을 놓치지 않도록 조금 겹쳐서 다시 읽음 (MERGE라 중복 복사는 무해)
+        watermark = syncStartedAt.minus(OVERLAP);
+    }
+    
+    private void copyChangedRows(String table) {
+        String changeColumn = CHANGE_COLUMNS.get(table);
+        List<Map<String, Object>> rows = changeColumn != null
+                ? primary.queryForList("SELECT * FROM " + table + " WHERE " + changeColumn + " >= ?", Timestamp.valueOf(watermark))
+                : primary.queryForList("SELECT * FROM " + table);
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        List<String> columns = List.copyOf(rows.get(0).keySet());
+        String sql = "MERGE INTO " + table + " (" + String.join(", ", columns) + ") KEY (id) VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        List<Object[]> batch = rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .toList();
+        replicas.forEach(replica -> replica.batchUpdate(sql, batch));
+    }
+    
+    private void removeDeletedRows(String table) {
+        Set<Long> primaryIds = new HashSet<>(primary.queryForList("SELECT id FROM " + table, Long.class));
+        for (JdbcTemplate replica : replicas) {
+            List<Object[]> deleted = new ArrayList<>();
+            for (Long id : replica.queryForList("SELECT id FROM " + table, Long.class)) {
+                if (!primaryIds.contains(id)) {
+                    deleted.add(new Object[]{id});
+                }
+            }
+            if (!deleted.isEmpty()) {
+                replica.batchUpdate("DELETE FROM " + table + " WHERE id = ?", deleted);
+            }
+        }
+    }
+}
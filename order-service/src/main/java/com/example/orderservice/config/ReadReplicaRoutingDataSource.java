@@ -0,0 +1,81 @@
+package com.example.orderservice.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외는 primary로 보내는 DataSource
+ *
+ * - 트랜잭션의 readOnly 여부는 커넥션을 실제로 얻는 시점에 판단하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - 쓰기 트랜잭션 커밋 후 read-your-writes window 동안 같은 호출자의 읽기는 primary에서 처리
+ * - 복제본 커넥션 획득에 실패하면 해당 복제본을 제외하고 primary에서 처리
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    public static final String PRIMARY = "primary";
+    
+    private final DataSource primary;
+    private final ReplicaSelector replicaSelector;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    
+    public ReadReplicaRoutingDataSource(DataSource primary, ReplicaSelector replicaSelector,
+                                        ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicaSelector = replicaSelector;
+        this.readYourWritesTracker = readYourWritesTracker;
+        
+        Map<Object, Object> targets = new HashMap<>(replicaSelector.getReplicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteOnCommit();
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.requiresPrimary()) {
+            return PRIMARY;
+        }
+        String replica = replicaSelector.next();
+        return replica != null ? replica : PRIMARY;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        DataSource target = getResolvedDataSources().get(key);
+        if (PRIMARY.equals(key)) {
+            return target.getConnection();
+        }
+        
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            replicaSelector.markUnhealthy((String) key, e);
+            return primary.getConnection();
+        }
+    }
+    
+    private void registerWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+        });
+    }
+}
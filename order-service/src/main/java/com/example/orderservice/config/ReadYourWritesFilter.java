@@ -0,0 +1,44 @@
+package com.example.orderservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 헤더(기본 X-Client-Id)의 호출자 ID를 요청 스레드에 바인딩
+ * 헤더가 없으면 클라이언트 주소를 호출자로 사용합니다. 같은 주소(NAT, 프록시) 뒤의 호출자는 한 호출자로 묶여
+ * 서로의 쓰기 후에도 primary에서 읽게 되지만, 방금 쓴 데이터를 복제본에서 못 읽는 일은 없습니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    
+    // 헤더 값과 겹치지 않도록 주소 기반 호출자 ID에 붙이는 접두사
+    private static final String ADDRESS_PREFIX = "addr:";
+    
+    private final ReadYourWritesTracker tracker;
+    private final String header;
+    
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker, String header) {
+        this.tracker = tracker;
+        this.header = header;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String callerId = request.getHeader(header);
+        if (callerId == null || callerId.isBlank()) {
+            callerId = ADDRESS_PREFIX + request.getRemoteAddr();
+        }
+        
+        tracker.bindCaller(callerId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            tracker.clearCaller();
+        }
+    }
+}
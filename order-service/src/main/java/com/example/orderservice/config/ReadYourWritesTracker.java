@@ -0,0 +1,86 @@
+package com.example.orderservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호출자별 마지막 쓰기 시각 기록 (read-your-writes)
+ * 요청 스레드에 호출자 ID를 바인딩하고, 쓰기 트랜잭션 커밋 후 window 동안 해당 호출자의 읽기를 primary로 보냅니다.
+ * 추적 중인 호출자가 maxCallers에 도달하면 새 호출자를 기록할 수 없으므로, 그 쓰기 이후 window 동안은
+ * 모든 호출자의 읽기를 primary로 보냅니다 (복제본 부하를 잃는 대신 방금 쓴 데이터를 못 읽는 일은 없음).
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+    
+    private static final ThreadLocal<String> CURRENT_CALLER = new ThreadLocal<>();
+    
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+    // 추적하지 못한 마지막 쓰기 시각 (이후 window 동안 모든 읽기를 primary로)
+    private final AtomicLong untrackedWriteAt = new AtomicLong(Long.MIN_VALUE);
+    private final long windowMillis;
+    private final int maxCallers;
+    
+    public ReadYourWritesTracker(DataSourceRoutingProperties.ReadYourWrites properties) {
+        this.windowMillis = properties.getWindow().toMillis();
+        this.maxCallers = properties.getMaxCallers();
+    }
+    
+    public void bindCaller(String callerId) {
+        CURRENT_CALLER.set(callerId);
+    }
+    
+    public void clearCaller() {
+        CURRENT_CALLER.remove();
+    }
+    
+    /**
+     * 현재 호출자의 쓰기 커밋 기록
+     */
+    public void recordWrite() {
+        String caller = CURRENT_CALLER.get();
+        if (caller == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (lastWriteAt.size() >= maxCallers && !lastWriteAt.containsKey(caller)) {
+            if (!isSaturated(untrackedWriteAt.getAndSet(now), now)) {
+                log.warn("Read-your-writes tracker full ({} callers) - routing all reads to primary", maxCallers);
+            }
+            return;
+        }
+        lastWriteAt.put(caller, now);
+    }
+    
+    /**
+     * 현재 호출자가 window 안에 쓰기를 했거나, window 안에 추적하지 못한 쓰기가 있었으면 true (primary에서 읽어야 함)
+     */
+    public boolean requiresPrimary() {
+        String caller = CURRENT_CALLER.get();
+        if (caller == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (isSaturated(untrackedWriteAt.get(), now)) {
+            return true;
+        }
+        Long writtenAt = lastWriteAt.get(caller);
+        return writtenAt != null && now - writtenAt < windowMillis;
+    }
+    
+    private boolean isSaturated(long untrackedAt, long now) {
+        return untrackedAt != Long.MIN_VALUE && now - untrackedAt < windowMillis;
+    }
+    
+    /**
+     * window가 지난 호출자 정리 (주기적)
+     */
+    @Scheduled(fixedDelayString = "${order.datasource.routing.read-your-writes.window:PT5S}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+}
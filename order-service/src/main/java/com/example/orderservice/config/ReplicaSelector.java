@@ -0,0 +1,111 @@
+package com.example.orderservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 복제본 선택 (정상 상태인 복제본 사이 round-robin)
+ * 주기적 점검 또는 커넥션 획득 실패 시 비정상으로 표시되며, 다음 점검에서 회복되면 다시 선택됩니다.
+ */
+@Slf4j
+public class ReplicaSelector {
+    
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Boolean> health = new LinkedHashMap<>();
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger counter = new AtomicInteger();
+    // 요청 스레드(커넥션 획득 실패)에서도 호출되므로 synchronized 대신 lock 사용 (가상 스레드 pinning 방지)
+    private final ReentrantLock healthLock = new ReentrantLock();
+    
+    private volatile List<String> healthyReplicas;
+    
+    public ReplicaSelector(Map<String, DataSource> replicas, Duration healthCheckTimeout) {
+        this.replicas = replicas;
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        replicas.keySet().forEach(name -> health.put(name, true));
+        this.healthyReplicas = List.copyOf(replicas.keySet());
+    }
+    
+    /**
+     * 다음 복제본 이름 (정상 복제본이 없으면 null → primary 사용)
+     */
+    public String next() {
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size()));
+    }
+    
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+    
+    /**
+     * 커넥션 획득 실패 등으로 복제본을 즉시 제외
+     */
+    public void markUnhealthy(String name, Exception cause) {
+        updateHealth(name, false, cause);
+    }
+    
+    /**
+     * 복제본 상태 점검 (주기적)
+     */
+    @Scheduled(fixedDelayString = "${order.datasource.routing.health-check-interval:PT5S}")
+    public void checkHealth() {
+        replicas.forEach((name, dataSource) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                updateHealth(name, connection.isValid(healthCheckTimeoutSeconds), null);
+            } catch (Exception e) {
+                updateHealth(name, false, e);
+            }
+        });
+    }
+    
+    /**
+     * 복제본 커넥션 풀 종료 (애플리케이션 종료 시)
+     */
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica data source", e);
+                }
+            }
+        });
+    }
+    
+    private void updateHealth(String name, boolean healthy, Exception cause) {
+        healthLock.lock();
+        try {
+            Boolean previous = health.put(name, healthy);
+            if (previous != null && previous == healthy) {
+                return;
+            }
+            healthyReplicas = health.entrySet().stream()
+                    .filter(Map.Entry::getValue)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            healthLock.unlock();
+        }
+        
+        if (healthy) {
+            log.info("Replica {} is healthy again - routing reads to it", name);
+        } else {
+            log.warn("Replica {} is unhealthy - routing its reads elsewhere: {}",
+                    name, cause != null ? cause.getMessage() : "validation failed");
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.example.orderservice.controller;
 
 import com.example.orderservice.domain.OrderStatus;
 import com.example.orderservice.dto.ApiResponse;
+import com.example.orderservice.dto.BulkUpdateOrderStatusRequest;
+import com.example.orderservice.dto.BulkUpdateOrderStatusResponse;
 import com.example.orderservice.dto.CreateOrderRequest;
+import com.example.orderservice.dto.CursorPageResponse;
 import com.example.orderservice.dto.OrderResponse;
+import com.example.orderservice.dto.OrderSummaryResponse;
 import com.example.orderservice.dto.UpdateOrderStatusRequest;
 import com.example.orderservice.service.OrderService;
 import jakarta.validation.Valid;
@@ -22,6 +26,8 @@ import java.util.NoSuchElementException;
 @RequiredArgsConstructor
 public class OrderController {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final OrderService orderService;
     
     /**
@@ -54,6 +60,23 @@ public class OrderController {
                 ApiResponse.success("Order status updated successfully", order));
     }
     
+    /**
+     * 주문 상태 일괄 변경
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<BulkUpdateOrderStatusResponse>> bulkUpdateOrderStatus(
+            @Valid @RequestBody BulkUpdateOrderStatusRequest request) {
+        log.info("Received bulk update status request: {} orders, currentStatus={} -> {}",
+                request.getOrderIds() != null ? request.getOrderIds().size() : 0,
+                request.getCurrentStatus(),
+                request.getStatus());
+        
+        BulkUpdateOrderStatusResponse result = orderService.bulkUpdateOrderStatus(request);
+        
+        return ResponseEntity.ok(
+                ApiResponse.success("Order statuses updated successfully", result));
+    }
+    
     /**
      * 주문 조회
      */
@@ -77,6 +100,25 @@ public class OrderController {
                 ApiResponse.success("Order retrieved successfully", order));
     }
     
+    /**
+     * 고객별 주문 이력 조회 (커서 기반 페이지네이션)
+     */
+    @GetMapping("/customer/{customerName}")
+    public ResponseEntity<ApiResponse<CursorPageResponse<OrderSummaryResponse>>> getOrdersByCustomer(
+            @PathVariable String customerName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        
+        CursorPageResponse<OrderSummaryResponse> orders =
+                orderService.getOrdersByCustomer(customerName, cursor, size);
+        
+        return ResponseEntity.ok(
+                ApiResponse.success("Orders retrieved successfully", orders));
+    }
+    
     /**
      * 전체 주문 조회 / 상태별 조회
      */
@@ -113,6 +155,17 @@ public class OrderController {
                 .body(ApiResponse.error(e.getMessage()));
     }
     
+    /**
+     * 예외 처리 - Illegal Argument
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException e) {
+        log.warn("Illegal argument: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+    
     /**
      * 예외 처리 - Generic Exception
      */
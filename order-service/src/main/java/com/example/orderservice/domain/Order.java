@@ -10,7 +10,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_id", columnList = "status, id"),
+        @Index(name = "idx_orders_status_updated_id", columnList = "status, updated_at, id"),
+        @Index(name = "idx_orders_customer_created_id", columnList = "customer_name, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -37,12 +41,22 @@ public class Order {
     @Column(length = 500)
     private String notes;
     
+    /**
+     * 주문 상품 수 (CDC 소비자가 order_items 이벤트를 모두 받았는지 판단하는 데 사용)
+     */
+    private Integer itemCount;
+    
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
+    /**
+     * 아카이브 이관 표시 (삭제 직전에만 설정되며, CDC 소비자가 이관 삭제를 구분하는 데 사용)
+     */
+    private LocalDateTime archivedAt;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -58,9 +72,7 @@ public class Order {
      * 주문 승인
      */
     public void approve() {
-        if (status != OrderStatus.PENDING) {
-            throw new IllegalStateException("Only PENDING orders can be approved");
-        }
+        requireTransition(OrderStatus.APPROVED, "Only PENDING orders can be approved");
         this.status = OrderStatus.APPROVED;
     }
     
@@ -68,9 +80,7 @@ public class Order {
      * 배송 시작
      */
     public void ship() {
-        if (status != OrderStatus.APPROVED) {
-            throw new IllegalStateException("Only APPROVED orders can be shipped");
-        }
+        requireTransition(OrderStatus.SHIPPED, "Only APPROVED orders can be shipped");
         this.status = OrderStatus.SHIPPED;
     }
     
@@ -78,9 +88,7 @@ public class Order {
      * 배송 완료
      */
     public void deliver() {
-        if (status != OrderStatus.SHIPPED) {
-            throw new IllegalStateException("Only SHIPPED orders can be delivered");
-        }
+        requireTransition(OrderStatus.DELIVERED, "Only SHIPPED orders can be delivered");
         this.status = OrderStatus.DELIVERED;
     }
     
@@ -88,9 +96,16 @@ public class Order {
      * 주문 취소
      */
     public void cancel() {
-        if (status == OrderStatus.DELIVERED) {
-            throw new IllegalStateException("Cannot cancel DELIVERED orders");
-        }
+        requireTransition(OrderStatus.CANCELLED, "Cannot cancel DELIVERED orders");
         this.status = OrderStatus.CANCELLED;
     }
+    
+    /**
+     * 전환 가능 여부 확인 (규칙은 OrderStatus.allowedSourceStatuses() - 벌크 상태 변경과 동일)
+     */
+    private void requireTransition(OrderStatus newStatus, String message) {
+        if (!newStatus.allowedSourceStatuses().contains(status)) {
+            throw new IllegalStateException(message);
+        }
+    }
 }
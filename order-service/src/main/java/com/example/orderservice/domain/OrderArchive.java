@@ -0,0 +1,53 @@
+package com.example.orderservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 아카이브된 주문 (DELIVERED / CANCELLED 이후 보관 기간이 지난 주문)
+ * MySQL에서는 created_at 기준 월 단위 RANGE 파티션 테이블입니다 (schema-mysql.sql).
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_order_number", columnList = "order_number")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderArchive {
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false, length = 50)
+    private String orderNumber;
+    
+    @Column(nullable = false, length = 100)
+    private String customerName;
+    
+    @Column(nullable = false)
+    private BigDecimal totalAmount;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+    
+    @Column(length = 500)
+    private String notes;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,48 @@
+package com.example.orderservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional Outbox 이벤트
+ * 주문 변경과 같은 트랜잭션에서 저장되고, Debezium Outbox Event Router가 Kafka로 발행합니다.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_created_at", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutbox {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+    
+    @Column(nullable = false, length = 50)
+    private String aggregateId;
+    
+    @Column(nullable = false, length = 50)
+    private String eventType;
+    
+    @Column(nullable = false, length = 2000)
+    private String payload;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.orderservice.domain;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 주문 상태
  */
@@ -8,5 +11,20 @@ public enum OrderStatus {
     APPROVED,     // 주문 승인됨
     SHIPPED,      // 배송 시작
     DELIVERED,    // 배송 완료
-    CANCELLED     // 주문 취소
+    CANCELLED;    // 주문 취소
+    
+    /**
+     * 이 상태로 전환할 수 있는 이전 상태 목록 (상태 전환 규칙의 유일한 정의)
+     * 단건 전환(Order.approve/ship/deliver/cancel)과 벌크 상태 변경의 set-based UPDATE 조건이 함께 사용합니다.
+     */
+    public Set<OrderStatus> allowedSourceStatuses() {
+        return switch (this) {
+            case PENDING -> EnumSet.noneOf(OrderStatus.class);
+            case APPROVED -> EnumSet.of(PENDING);
+            case SHIPPED -> EnumSet.of(APPROVED);
+            case DELIVERED -> EnumSet.of(SHIPPED);
+            // 배송 완료만 아니면 취소 가능 (이미 취소된 주문을 다시 취소해도 오류가 아님)
+            case CANCELLED -> EnumSet.of(PENDING, APPROVED, SHIPPED, CANCELLED);
+        };
+    }
 }
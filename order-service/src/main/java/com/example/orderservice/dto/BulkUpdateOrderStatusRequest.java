@@ -0,0 +1,28 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.domain.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 벌크 상태 변경 요청
+ * orderIds 또는 currentStatus(필터) 중 하나를 지정합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateOrderStatusRequest {
+    
+    @NotNull(message = "Status is required")
+    private OrderStatus status;
+    
+    private List<Long> orderIds;
+    
+    private OrderStatus currentStatus;
+}
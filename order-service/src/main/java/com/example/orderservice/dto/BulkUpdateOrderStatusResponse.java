@@ -0,0 +1,22 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateOrderStatusResponse {
+    
+    private OrderStatus status;
+    private int updatedCount;
+    private int rejectedCount;
+    private List<Long> updatedOrderIds;
+    private List<Long> rejectedOrderIds;
+}
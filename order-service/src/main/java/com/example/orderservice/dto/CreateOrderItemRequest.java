@@ -0,0 +1,30 @@
+package com.example.orderservice.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateOrderItemRequest {
+    
+    @NotBlank(message = "Product name is required")
+    private String productName;
+    
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+    
+    @NotNull(message = "Unit price is required")
+    @DecimalMin(value = "0.00", message = "Unit price must not be negative")
+    private BigDecimal unitPrice;
+}
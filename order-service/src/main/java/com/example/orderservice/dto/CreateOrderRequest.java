@@ -1,5 +1,6 @@
 package com.example.orderservice.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,6 +10,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 @Builder
@@ -24,4 +27,8 @@ public class CreateOrderRequest {
     private BigDecimal totalAmount;
     
     private String notes;
+    
+    @Valid
+    @Builder.Default
+    private List<CreateOrderItemRequest> items = new ArrayList<>();
 }
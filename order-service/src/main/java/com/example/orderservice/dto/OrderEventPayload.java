@@ -0,0 +1,49 @@
+package com.example.orderservice.dto;
+
+import com.example.orderservice.domain.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox 이벤트 payload (비즈니스 이벤트에 필요한 필드만 포함)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderEventPayload {
+    
+    private String eventType;
+    private Long orderId;
+    private String orderNumber;
+    private String customerName;
+    private OrderStatus status;
+    private OrderStatus previousStatus;
+    private BigDecimal totalAmount;
+    private Integer itemCount;
+    private List<Item> items;
+    private LocalDateTime occurredAt;
+    
+    /**
+     * 주문 상품 (OrderCreated 이벤트에만 포함)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        
+        private Long id;
+        private String productName;
+        private Integer quantity;
+        private BigDecimal unitPrice;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.orderservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 생성일 범위 projection
+ */
+public interface CreatedAtRange {
+    
+    LocalDateTime getMinCreatedAt();
+    
+    LocalDateTime getMaxCreatedAt();
+}
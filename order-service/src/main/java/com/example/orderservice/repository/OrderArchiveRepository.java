@@ -0,0 +1,28 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.domain.OrderArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+    
+    Optional<OrderArchive> findByOrderNumber(String orderNumber);
+    
+    /**
+     * orders 테이블의 주문을 아카이브 테이블로 복사 (INSERT ... SELECT)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive "
+            + "(id, order_number, customer_name, total_amount, status, notes, created_at, updated_at, archived_at) "
+            + "SELECT id, order_number, customer_name, total_amount, status, notes, created_at, updated_at, :archivedAt "
+            + "FROM orders WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromOrders(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,25 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.domain.OrderItemArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface OrderItemArchiveRepository extends JpaRepository<OrderItemArchive, Long> {
+    
+    /**
+     * order_items 테이블의 주문 상품을 아카이브 테이블로 복사 (INSERT ... SELECT)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_items_archive "
+            + "(id, order_id, product_name, quantity, unit_price, created_at, archived_at) "
+            + "SELECT id, order_id, product_name, quantity, unit_price, created_at, :archivedAt "
+            + "FROM order_items WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int copyFromOrderItems(@Param("orderIds") Collection<Long> orderIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
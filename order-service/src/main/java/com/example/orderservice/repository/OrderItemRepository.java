@@ -0,0 +1,26 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.domain.OrderItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+    
+    /**
+     * 아카이브 이관 표시 (삭제 이벤트의 before 이미지에 archived_at이 남도록 삭제 직전에 설정)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderItem i set i.archivedAt = :archivedAt where i.orderId in :orderIds")
+    int markArchivedByOrderIds(@Param("orderIds") Collection<Long> orderIds, @Param("archivedAt") LocalDateTime archivedAt);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from OrderItem i where i.orderId in :orderIds")
+    int deleteByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
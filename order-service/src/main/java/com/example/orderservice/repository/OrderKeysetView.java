@@ -0,0 +1,13 @@
+package com.example.orderservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * keyset 페이지네이션용 projection (인덱스 컬럼만 포함)
+ */
+public interface OrderKeysetView {
+    
+    Long getId();
+    
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,21 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.domain.OrderOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+    
+    /**
+     * 보관 기간이 지난 Outbox 이벤트 ID 조회 (정리용)
+     */
+    @Query("select o.id from OrderOutbox o where o.createdAt < :cutoff order by o.id")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+}
@@ -2,9 +2,17 @@ package com.example.orderservice.repository;
 
 import com.example.orderservice.domain.Order;
 import com.example.orderservice.domain.OrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +22,96 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByOrderNumber(String orderNumber);
     
     List<Order> findByStatus(OrderStatus status);
+    
+    /**
+     * 고객별 주문 이력 첫 페이지 (idx_orders_customer_created_id 인덱스만으로 처리)
+     */
+    @Query("select o.id as id, o.createdAt as createdAt from Order o "
+            + "where o.customerName = :customerName "
+            + "order by o.createdAt desc, o.id desc")
+    List<OrderKeysetView> findKeysByCustomer(@Param("customerName") String customerName, Limit limit);
+    
+    /**
+     * 고객별 주문 이력 다음 페이지 (createdAt, id 커서 이후)
+     */
+    @Query("select o.id as id, o.createdAt as createdAt from Order o "
+            + "where o.customerName = :customerName "
+            + "and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id)) "
+            + "order by o.createdAt desc, o.id desc")
+    List<OrderKeysetView> findKeysByCustomerAfter(@Param("customerName") String customerName,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Limit limit);
+    
+    /**
+     * 주문 요약 조회 (PK lookup, 엔티티 hydration 없음)
+     */
+    @Query("select o.id as id, o.orderNumber as orderNumber, o.customerName as customerName, "
+            + "o.totalAmount as totalAmount, o.status as status, o.createdAt as createdAt "
+            + "from Order o where o.id in :ids")
+    List<OrderSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 상태 전환이 가능한 주문 조회 (벌크 상태 변경용, 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id as id, o.orderNumber as orderNumber, o.customerName as customerName, o.status as status "
+            + "from Order o where o.id in :ids and o.status in :statuses")
+    List<OrderStatusView> findForStatusTransition(@Param("ids") Collection<Long> ids,
+                                                  @Param("statuses") Collection<OrderStatus> statuses);
+    
+    /**
+     * 상태별 주문 청크 조회 (id keyset, 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id as id, o.orderNumber as orderNumber, o.customerName as customerName, o.status as status "
+            + "from Order o where o.status = :status and o.id > :afterId order by o.id")
+    List<OrderStatusView> findByStatusAfter(@Param("status") OrderStatus status,
+                                            @Param("afterId") Long afterId,
+                                            Limit limit);
+    
+    /**
+     * 아카이브 대상 주문 ID 청크 조회 (종료 상태 + 보관 기간 경과, idx_orders_status_updated_id 범위 스캔, 잠금 없음)
+     */
+    @Query("select o.id from Order o where o.status in :statuses and o.updatedAt < :cutoff order by o.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<OrderStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Limit limit);
+    
+    /**
+     * 아카이브 청크 행 잠금 (PK lookup으로 청크 행만 잠그고, 조회 이후 바뀐 행은 조건 재확인으로 제외)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o.id from Order o where o.id in :ids and o.status in :statuses and o.updatedAt < :cutoff")
+    List<Long> lockArchivableIds(@Param("ids") Collection<Long> ids,
+                                 @Param("statuses") Collection<OrderStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * 아카이브 대상 주문의 생성일 범위 (파티션 준비용)
+     */
+    @Query("select min(o.createdAt) as minCreatedAt, max(o.createdAt) as maxCreatedAt from Order o "
+            + "where o.status in :statuses and o.updatedAt < :cutoff")
+    CreatedAtRange findArchivableCreatedAtRange(@Param("statuses") Collection<OrderStatus> statuses,
+                                                @Param("cutoff") LocalDateTime cutoff);
+    
+    /**
+     * 아카이브 이관 표시 (삭제 이벤트의 before 이미지에 archived_at이 남도록 삭제 직전에 설정)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.archivedAt = :archivedAt where o.id in :ids")
+    int markArchived(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Order o where o.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 주문 상태 일괄 변경 (@PreUpdate가 호출되지 않으므로 updatedAt을 직접 설정)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :status, o.updatedAt = :updatedAt where o.id in :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") OrderStatus status,
+                          @Param("updatedAt") LocalDateTime updatedAt);
 }
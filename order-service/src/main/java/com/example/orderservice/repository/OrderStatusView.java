@@ -0,0 +1,17 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.domain.OrderStatus;
+
+/**
+ * 벌크 상태 변경에 필요한 주문 컬럼만 담는 projection
+ */
+public interface OrderStatusView {
+    
+    Long getId();
+    
+    String getOrderNumber();
+    
+    String getCustomerName();
+    
+    OrderStatus getStatus();
+}
@@ -0,0 +1,24 @@
+package com.example.orderservice.repository;
+
+import com.example.orderservice.domain.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 projection (엔티티 hydration 없이 필요한 컬럼만 조회)
+ */
+public interface OrderSummaryView {
+    
+    Long getId();
+    
+    String getOrderNumber();
+    
+    String getCustomerName();
+    
+    BigDecimal getTotalAmount();
+    
+    OrderStatus getStatus();
+    
+    LocalDateTime getCreatedAt();
+}
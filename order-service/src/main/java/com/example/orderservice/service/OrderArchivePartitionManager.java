@@ -0,0 +1,65 @@
+package com.example.orderservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * orders_archive / order_items_archive 월 단위 파티션 관리 (MySQL)
+ * 아카이브 대상 월의 파티션을 p_future에서 분할해 미리 만들어 둡니다.
+ * ALTER TABLE은 암묵적 커밋을 일으키므로 이관 트랜잭션 밖에서 호출해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchivePartitionManager {
+    
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final List<String> TABLES = List.of("orders_archive", "order_items_archive");
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 주어진 생성일 범위를 덮는 월 파티션 생성 (아카이브 테이블마다)
+     */
+    public void ensurePartitions(LocalDateTime from, LocalDateTime to) {
+        TABLES.forEach(table -> ensurePartitions(table, from, to));
+    }
+    
+    private void ensurePartitions(String table, LocalDateTime from, LocalDateTime to) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? "
+                        + "AND partition_name IS NOT NULL",
+                String.class, table);
+        if (partitions.isEmpty()) {
+            log.warn("{} is not partitioned - skipping partition maintenance", table);
+            return;
+        }
+        
+        YearMonth latest = partitions.stream()
+                .filter(name -> name.matches("p\\d{6}"))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .max(YearMonth::compareTo)
+                .orElse(null);
+        
+        YearMonth month = YearMonth.from(from);
+        if (latest != null && !month.isAfter(latest)) {
+            month = latest.plusMonths(1);
+        }
+        
+        for (YearMonth last = YearMonth.from(to); !month.isAfter(last); month = month.plusMonths(1)) {
+            String name = month.format(PARTITION_NAME);
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION p_future INTO ("
+                    + "PARTITION " + name + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                    + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+            log.info("Created {} partition {}", table, name);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.domain.OrderStatus;
+import com.example.orderservice.repository.CreatedAtRange;
+import com.example.orderservice.repository.OrderArchiveRepository;
+import com.example.orderservice.repository.OrderItemArchiveRepository;
+import com.example.orderservice.repository.OrderItemRepository;
+import com.example.orderservice.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 종료 상태 주문 아카이브
+ * DELIVERED / CANCELLED 후 보관 기간이 지난 주문과 그 상품을 orders_archive / order_items_archive로 청크 단위 이관합니다.
+ * 이관 삭제는 archived_at 표시 후 수행되므로 CDC 소비자가 일반 삭제와 구분할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+    
+    private static final Set<OrderStatus> TERMINAL_STATUSES = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+    
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderItemArchiveRepository orderItemArchiveRepository;
+    private final OrderArchivePartitionManager partitionManager;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${order.archive.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${order.archive.retention:P90D}")
+    private Duration retention;
+    
+    @Value("${order.archive.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${order.archive.chunk-pause:PT0.2S}")
+    private Duration chunkPause;
+    
+    @Value("${order.archive.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+    
+    @Value("${order.archive.manage-partitions:true}")
+    private boolean managePartitions;
+    
+    /**
+     * 아카이브 실행 (주기적)
+     */
+    @Scheduled(fixedDelayString = "${order.archive.interval:PT10M}")
+    public void archiveTerminalOrders() {
+        if (!enabled) {
+            return;
+        }
+        
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        
+        if (managePartitions) {
+            CreatedAtRange range = orderRepository.findArchivableCreatedAtRange(TERMINAL_STATUSES, cutoff);
+            if (range == null || range.getMinCreatedAt() == null) {
+                return;
+            }
+            partitionManager.ensurePartitions(range.getMinCreatedAt(), range.getMaxCreatedAt());
+        }
+        
+        int archived = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<Long> ids = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            if (ids.isEmpty()) {
+                break;
+            }
+            archived += ids.size();
+            
+            if (ids.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+        
+        if (archived > 0) {
+            log.info("Archived {} terminal orders last updated before {}", archived, cutoff);
+        }
+    }
+    
+    /**
+     * 한 청크 이관: 청크 행 잠금 -> 이관 표시 -> 아카이브 복사 -> 원본 삭제 (상품 포함, 단일 트랜잭션)
+     * 대상 조회는 잠금 없이 하고 청크 행만 잠그므로, 스캔 범위의 다른 종료 주문은 잠기지 않습니다.
+     */
+    private List<Long> archiveChunk(LocalDateTime cutoff) {
+        List<Long> candidates = orderRepository.findArchivableIds(TERMINAL_STATUSES, cutoff, Limit.of(chunkSize));
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        
+        // 조회 이후 변경된 행은 제외됨 (청크가 줄어들면 이번 실행을 마치고 다음 주기에 이어서 처리)
+        List<Long> ids = orderRepository.lockArchivableIds(candidates, TERMINAL_STATUSES, cutoff);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        
+        LocalDateTime archivedAt = LocalDateTime.now();
+        orderItemRepository.markArchivedByOrderIds(ids, archivedAt);
+        orderItemArchiveRepository.copyFromOrderItems(ids, archivedAt);
+        orderItemRepository.deleteByOrderIds(ids);
+        
+        orderRepository.markArchived(ids, archivedAt);
+        orderArchiveRepository.copyFromOrders(ids, archivedAt);
+        orderRepository.deleteByIds(ids);
+        return ids;
+    }
+    
+    /**
+     * 청크 사이 대기 (DB 및 binlog 부하 조절)
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.domain.Order;
+import com.example.orderservice.domain.OrderItem;
+import com.example.orderservice.domain.OrderOutbox;
+import com.example.orderservice.domain.OrderStatus;
+import com.example.orderservice.dto.OrderEventPayload;
+import com.example.orderservice.repository.OrderOutboxRepository;
+import com.example.orderservice.repository.OrderStatusView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Transactional Outbox 이벤트 저장 및 정리
+ * 이벤트는 반드시 주문 변경과 같은 트랜잭션 안에서 저장됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxService {
+    
+    public static final String AGGREGATE_TYPE = "Order";
+    public static final String ORDER_CREATED = "OrderCreated";
+    public static final String ORDER_STATUS_CHANGED = "OrderStatusChanged";
+    
+    private final OrderOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${order.outbox.retention:PT24H}")
+    private Duration retention;
+    
+    @Value("${order.outbox.purge-chunk-size:1000}")
+    private int purgeChunkSize;
+    
+    /**
+     * 주문 생성 이벤트 저장 (CDC 경로의 orders/order_items 조인 결과와 같은 상품 목록 포함)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderCreated(Order order, List<OrderItem> items) {
+        outboxRepository.save(toOutbox(OrderEventPayload.builder()
+                .eventType(ORDER_CREATED)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerName(order.getCustomerName())
+                .status(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getItemCount())
+                .items(items.stream()
+                        .map(item -> OrderEventPayload.Item.builder()
+                                .id(item.getId())
+                                .productName(item.getProductName())
+                                .quantity(item.getQuantity())
+                                .unitPrice(item.getUnitPrice())
+                                .build())
+                        .toList())
+                .occurredAt(order.getCreatedAt())
+                .build()));
+    }
+    
+    /**
+     * 주문 상태 변경 이벤트 저장
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderStatusChanged(Order order, OrderStatus previousStatus) {
+        outboxRepository.save(toOutbox(OrderEventPayload.builder()
+                .eventType(ORDER_STATUS_CHANGED)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerName(order.getCustomerName())
+                .status(order.getStatus())
+                .previousStatus(previousStatus)
+                .occurredAt(LocalDateTime.now())
+                .build()));
+    }
+    
+    /**
+     * 벌크 상태 변경 이벤트 저장 (변경 전 상태가 담긴 projection 기준)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderStatusChanged(List<OrderStatusView> orders, OrderStatus newStatus, LocalDateTime occurredAt) {
+        outboxRepository.saveAll(orders.stream()
+                .map(order -> toOutbox(OrderEventPayload.builder()
+                        .eventType(ORDER_STATUS_CHANGED)
+                        .orderId(order.getId())
+                        .orderNumber(order.getOrderNumber())
+                        .customerName(order.getCustomerName())
+                        .status(newStatus)
+                        .previousStatus(order.getStatus())
+                        .occurredAt(occurredAt)
+                        .build()))
+                .toList());
+    }
+    
+    /**
+     * 보관 기간이 지난 Outbox 이벤트 정리
+     * Debezium이 이미 binlog에서 읽어간 행이므로 삭제해도 이벤트 발행에 영향이 없습니다.
+     * 삭제 자체는 outbox 커넥터에서 걸러집니다 (skipped.operations=t,d, tombstones.on.delete=false).
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.purge-interval:PT1M}")
+    public void purgeExpiredEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        
+        List<Long> ids;
+        do {
+            ids = outboxRepository.findIdsCreatedBefore(cutoff, Limit.of(purgeChunkSize));
+            if (!ids.isEmpty()) {
+                outboxRepository.deleteAllByIdInBatch(ids);
+                purged += ids.size();
+            }
+        } while (ids.size() == purgeChunkSize);
+        
+        if (purged > 0) {
+            log.info("Purged {} outbox events created before {}", purged, cutoff);
+        }
+    }
+    
+    private OrderOutbox toOutbox(OrderEventPayload payload) {
+        try {
+            return OrderOutbox.builder()
+                    .aggregateType(AGGREGATE_TYPE)
+                    .aggregateId(String.valueOf(payload.getOrderId()))
+                    .eventType(payload.getEventType())
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for order " + payload.getOrderId(), e);
+        }
+    }
+}
@@ -1,18 +1,45 @@
 package com.example.orderservice.service;
 
 import com.example.orderservice.domain.Order;
+import com.example.orderservice.domain.OrderArchive;
+import com.example.orderservice.domain.OrderItem;
 import com.example.orderservice.domain.OrderStatus;
+import com.example.orderservice.dto.BulkUpdateOrderStatusRequest;
+import com.example.orderservice.dto.BulkUpdateOrderStatusResponse;
+import com.example.orderservice.dto.CreateOrderItemRequest;
 import com.example.orderservice.dto.CreateOrderRequest;
+import com.example.orderservice.dto.CursorPageResponse;
 import com.example.orderservice.dto.OrderResponse;
+import com.example.orderservice.dto.OrderSummaryResponse;
+import com.example.orderservice.repository.OrderArchiveRepository;
+import com.example.orderservice.repository.OrderItemRepository;
+import com.example.orderservice.repository.OrderKeysetView;
 import com.example.orderservice.repository.OrderRepository;
+import com.example.orderservice.repository.OrderStatusView;
+import com.example.orderservice.repository.OrderSummaryView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Random;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,18 +48,25 @@ import java.util.stream.Collectors;
 public class OrderService {
     
     private final OrderRepository orderRepository;
-    private final Random random = new Random();
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderOutboxService orderOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${order.bulk-status.chunk-size:500}")
+    private int bulkChunkSize;
     
     /**
      * 주문 생성
-     * ⭐ 중요: 이벤트 발행 코드가 없습니다!
-     * CDC(Debezium)가 자동으로 변경사항을 감지하고 Kafka로 발행합니다.
+     * ⭐ 중요: Kafka 발행 코드가 없습니다!
+     * CDC(Debezium)가 orders 테이블 변경과 같은 트랜잭션에 저장된 Outbox 이벤트를 감지하고 Kafka로 발행합니다.
      */
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
         log.info("Creating order for customer: {}", request.getCustomerName());
         
         String orderNumber = generateOrderNumber();
+        List<CreateOrderItemRequest> items = request.getItems() != null ? request.getItems() : List.of();
         
         Order order = Order.builder()
                 .orderNumber(orderNumber)
@@ -40,9 +74,19 @@ public class OrderService {
                 .totalAmount(request.getTotalAmount())
                 .status(OrderStatus.PENDING)
                 .notes(request.getNotes())
+                .itemCount(items.size())
                 .build();
         
         Order savedOrder = orderRepository.save(order);
+        List<OrderItem> savedItems = orderItemRepository.saveAll(items.stream()
+                .map(item -> OrderItem.builder()
+                        .orderId(savedOrder.getId())
+                        .productName(item.getProductName())
+                        .quantity(item.getQuantity())
+                        .unitPrice(item.getUnitPrice())
+                        .build())
+                .toList());
+        orderOutboxService.orderCreated(savedOrder, savedItems);
         log.info("Order created successfully: {}", savedOrder.getOrderNumber());
         
         return toResponse(savedOrder);
@@ -58,6 +102,8 @@ public class OrderService {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new NoSuchElementException("Order not found with id: " + orderId));
         
+        OrderStatus previousStatus = order.getStatus();
+        
         // 상태 전환 로직
         switch (newStatus) {
             case APPROVED -> order.approve();
@@ -68,6 +114,7 @@ public class OrderService {
         }
         
         Order updatedOrder = orderRepository.save(order);
+        orderOutboxService.orderStatusChanged(updatedOrder, previousStatus);
         log.info("Order status updated successfully: {} -> {}", 
                 updatedOrder.getOrderNumber(), updatedOrder.getStatus());
         
@@ -77,23 +124,70 @@ public class OrderService {
     }
     
     /**
-     * 주문 조회
+     * 주문 상태 일괄 변경
+     * 상태 전환 규칙을 UPDATE 조건으로 적용하고, 청크마다 별도 트랜잭션으로 처리합니다.
+     */
+    public BulkUpdateOrderStatusResponse bulkUpdateOrderStatus(BulkUpdateOrderStatusRequest request) {
+        OrderStatus newStatus = request.getStatus();
+        if (newStatus == OrderStatus.PENDING) {
+            throw new IllegalStateException("Cannot change status back to PENDING");
+        }
+        
+        Set<OrderStatus> sourceStatuses = EnumSet.copyOf(newStatus.allowedSourceStatuses());
+        if (request.getCurrentStatus() != null) {
+            if (!sourceStatuses.contains(request.getCurrentStatus())) {
+                throw new IllegalStateException("Cannot change status from "
+                        + request.getCurrentStatus() + " to " + newStatus);
+            }
+            sourceStatuses = EnumSet.of(request.getCurrentStatus());
+        }
+        
+        List<Long> updatedIds = new ArrayList<>();
+        List<Long> rejectedIds = new ArrayList<>();
+        
+        if (request.getOrderIds() != null && !request.getOrderIds().isEmpty()) {
+            log.info("Bulk updating {} orders to status: {}", request.getOrderIds().size(), newStatus);
+            bulkUpdateByIds(new ArrayList<>(new LinkedHashSet<>(request.getOrderIds())),
+                    sourceStatuses, newStatus, updatedIds, rejectedIds);
+        } else if (request.getCurrentStatus() != null) {
+            log.info("Bulk updating {} orders to status: {}", request.getCurrentStatus(), newStatus);
+            bulkUpdateByStatus(request.getCurrentStatus(), newStatus, updatedIds);
+        } else {
+            throw new IllegalArgumentException("Either orderIds or currentStatus is required");
+        }
+        
+        log.info("Bulk status update completed: {} updated, {} rejected -> {}",
+                updatedIds.size(), rejectedIds.size(), newStatus);
+        
+        return BulkUpdateOrderStatusResponse.builder()
+                .status(newStatus)
+                .updatedCount(updatedIds.size())
+                .rejectedCount(rejectedIds.size())
+                .updatedOrderIds(updatedIds)
+                .rejectedOrderIds(rejectedIds)
+                .build();
+    }
+    
+    /**
+     * 주문 조회 (없으면 아카이브에서 조회)
      */
     @Transactional(readOnly = true)
     public OrderResponse getOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        return orderRepository.findById(orderId)
+                .map(this::toResponse)
+                .or(() -> orderArchiveRepository.findById(orderId).map(this::toResponse))
                 .orElseThrow(() -> new NoSuchElementException("Order not found with id: " + orderId));
-        return toResponse(order);
     }
     
     /**
-     * 주문번호로 조회
+     * 주문번호로 조회 (없으면 아카이브에서 조회)
      */
     @Transactional(readOnly = true)
     public OrderResponse getOrderByOrderNumber(String orderNumber) {
-        Order order = orderRepository.findByOrderNumber(orderNumber)
+        return orderRepository.findByOrderNumber(orderNumber)
+                .map(this::toResponse)
+                .or(() -> orderArchiveRepository.findByOrderNumber(orderNumber).map(this::toResponse))
                 .orElseThrow(() -> new NoSuchElementException("Order not found with number: " + orderNumber));
-        return toResponse(order);
     }
     
     /**
@@ -116,15 +210,149 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 고객별 주문 이력 조회 (커서 기반 페이지네이션)
+     * 1) 인덱스만으로 페이지 키(id, createdAt)를 찾고 2) 해당 페이지만 PK로 요약 컬럼을 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderSummaryResponse> getOrdersByCustomer(String customerName, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<OrderKeysetView> keys;
+        if (cursor == null || cursor.isBlank()) {
+            keys = orderRepository.findKeysByCustomer(customerName, limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            keys = orderRepository.findKeysByCustomerAfter(
+                    customerName, LocalDateTime.parse(position[0]), Long.parseLong(position[1]), limit);
+        }
+        
+        boolean hasNext = keys.size() > size;
+        List<OrderKeysetView> page = hasNext ? keys.subList(0, size) : keys;
+        
+        Map<Long, OrderSummaryView> summaries = orderRepository
+                .findSummariesByIds(page.stream().map(OrderKeysetView::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(OrderSummaryView::getId, Function.identity()));
+        
+        List<OrderSummaryResponse> items = page.stream()
+                .map(key -> summaries.get(key.getId()))
+                .filter(Objects::nonNull)
+                .map(this::toSummaryResponse)
+                .toList();
+        
+        OrderKeysetView last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageResponse.<OrderSummaryResponse>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(last.getCreatedAt(), last.getId()) : null)
+                .build();
+    }
+    
+    /**
+     * ID 목록 기반 벌크 상태 변경 (청크 단위)
+     */
+    private void bulkUpdateByIds(List<Long> orderIds, Set<OrderStatus> sourceStatuses, OrderStatus newStatus,
+                                 List<Long> updatedIds, List<Long> rejectedIds) {
+        for (int from = 0; from < orderIds.size(); from += bulkChunkSize) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + bulkChunkSize, orderIds.size()));
+            
+            List<Long> eligibleIds = transactionTemplate.execute(status ->
+                    transitionChunk(orderRepository.findForStatusTransition(chunk, sourceStatuses), newStatus));
+            
+            Set<Long> eligible = new HashSet<>(eligibleIds);
+            for (Long id : chunk) {
+                if (eligible.contains(id)) {
+                    updatedIds.add(id);
+                } else {
+                    rejectedIds.add(id);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 현재 상태 필터 기반 벌크 상태 변경 (id keyset 청크 단위)
+     */
+    private void bulkUpdateByStatus(OrderStatus currentStatus, OrderStatus newStatus, List<Long> updatedIds) {
+        long lastId = 0L;
+        while (true) {
+            long afterId = lastId;
+            List<Long> ids = transactionTemplate.execute(status ->
+                    transitionChunk(orderRepository.findByStatusAfter(
+                            currentStatus, afterId, Limit.of(bulkChunkSize)), newStatus));
+            
+            if (ids.isEmpty()) {
+                return;
+            }
+            updatedIds.addAll(ids);
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+    
+    /**
+     * 잠금된 청크를 한 번의 UPDATE로 전환하고 Outbox 이벤트를 함께 저장
+     */
+    private List<Long> transitionChunk(List<OrderStatusView> orders, OrderStatus newStatus) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = orders.stream().map(OrderStatusView::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+        
+        orderRepository.updateStatusByIds(ids, newStatus, now);
+        orderOutboxService.orderStatusChanged(orders, newStatus, now);
+        return ids;
+    }
+    
     /**
      * 주문번호 생성
      */
     private String generateOrderNumber() {
         long timestamp = System.currentTimeMillis();
-        int randomNum = random.nextInt(9000) + 1000;
+        int randomNum = ThreadLocalRandom.current().nextInt(9000) + 1000;
         return String.format("ORD-%d-%d", timestamp, randomNum);
     }
     
+    /**
+     * 커서 인코딩 (createdAt|id)
+     */
+    private String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 디코딩
+     */
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] position = raw.split("\\|");
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+    
+    /**
+     * Summary projection to Response 변환
+     */
+    private OrderSummaryResponse toSummaryResponse(OrderSummaryView summary) {
+        return OrderSummaryResponse.builder()
+                .id(summary.getId())
+                .orderNumber(summary.getOrderNumber())
+                .customerName(summary.getCustomerName())
+                .totalAmount(summary.getTotalAmount())
+                .status(summary.getStatus())
+                .createdAt(summary.getCreatedAt())
+                .build();
+    }
+    
     /**
      * Entity to Response 변환
      */
@@ -140,4 +368,20 @@ public class OrderService {
                 .updatedAt(order.getUpdatedAt())
                 .build();
     }
+    
+    /**
+     * Archive Entity to Response 변환
+     */
+    private OrderResponse toResponse(OrderArchive order) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .customerName(order.getCustomerName())
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus())
+                .notes(order.getNotes())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,37 @@
+-- orders_archive: created_at 기준 월 단위 RANGE 파티션
+-- 월 파티션은 OrderArchivePartitionManager가 p_future를 분할해 생성합니다.
+-- 파티션 테이블의 PK는 파티션 키(created_at)를 포함해야 합니다.
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id BIGINT NOT NULL,
+    order_number VARCHAR(50) NOT NULL,
+    customer_name VARCHAR(100) NOT NULL,
+    total_amount DECIMAL(38, 2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    notes VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, created_at),
+    INDEX idx_orders_archive_order_number (order_number)
+)
+PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_history VALUES LESS THAN ('2000-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- order_items_archive: 아카이브된 주문의 상품 (orders_archive와 같은 월 단위 파티션)
+CREATE TABLE IF NOT EXISTS order_items_archive (
+    id BIGINT NOT NULL,
+    order_id BIGINT NOT NULL,
+    product_name VARCHAR(200) NOT NULL,
+    quantity INT NOT NULL,
+    unit_price DECIMAL(38, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, created_at),
+    INDEX idx_order_items_archive_order_id (order_id)
+)
+PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_history VALUES LESS THAN ('2000-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
@@ -0,0 +1,190 @@
+package com.example.orderservice.config;
+
+import com.example.orderservice.domain.OrderStatus;
+import com.example.orderservice.dto.CreateOrderItemRequest;
+import com.example.orderservice.dto.CreateOrderRequest;
+import com.example.orderservice.dto.OrderResponse;
+import com.example.orderservice.service.OrderArchiveService;
+import com.example.orderservice.service.OrderService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 읽기/쓰기 라우팅 검증 (primary H2 + 복제본 H2)
+ * 복제 주기를 길게 두고 테스트에서 직접 복제를 실행하므로, 복제 전 복제본은 항상 뒤처져 있습니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order_db_routing;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "order.datasource.routing.simulated-replication-lag=PT1H",
+        "order.datasource.routing.health-check-interval=PT1H",
+        "order.datasource.routing.replicas[0].name=replica-1",
+        "order.datasource.routing.replicas[0].url=jdbc:h2:mem:order_db_routing_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "order.datasource.routing.replicas[0].username=sa",
+        "order.datasource.routing.replicas[0].password=",
+        "order.datasource.routing.replicas[0].driver-class-name=org.h2.Driver",
+        "order.archive.retention=PT0S"
+})
+@ActiveProfiles({"h2", "replica-h2"})
+class ReadReplicaRoutingTest {
+    
+    private static final String REPLICA_DB = "order_db_routing_replica";
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private ReplicaSelector replicaSelector;
+    
+    @Autowired
+    private ReadYourWritesTracker tracker;
+    
+    @Autowired
+    private H2ReplicationSimulator replicationSimulator;
+    
+    @Autowired
+    private OrderService orderService;
+    
+    @Autowired
+    private OrderArchiveService orderArchiveService;
+    
+    @AfterEach
+    void clearCaller() {
+        tracker.clearCaller();
+    }
+    
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertThat(connectionUrl(true)).contains(REPLICA_DB);
+        assertThat(connectionUrl(false)).doesNotContain(REPLICA_DB);
+    }
+    
+    @Test
+    void callerReadsItsOwnWriteFromPrimaryWithinWindow() {
+        tracker.bindCaller("writer");
+        Long orderId = orderService.createOrder(orderRequest("writer")).getId();
+        
+        // 복제 전이지만 쓴 호출자는 primary에서 읽음
+        assertThat(connectionUrl(true)).doesNotContain(REPLICA_DB);
+        assertThat(orderService.getOrder(orderId).getStatus()).isEqualTo(OrderStatus.PENDING);
+        
+        // 다른 호출자는 복제본에서 읽으므로 복제 전에는 보이지 않음
+        tracker.bindCaller("reader");
+        assertThat(connectionUrl(true)).contains(REPLICA_DB);
+        assertThatThrownBy(() -> orderService.getOrder(orderId)).isInstanceOf(NoSuchElementException.class);
+        
+        replicationSimulator.replicate();
+        assertThat(orderService.getOrder(orderId).getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+    
+    @Test
+    void requestWithoutClientIdReadsItsOwnWriteByAddress() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(tracker, "X-Client-Id");
+        filter.doFilter(request("10.0.0.1"), new MockHttpServletResponse(),
+                (request, response) -> orderService.createOrder(orderRequest("anonymous")));
+        
+        // 헤더 없이 같은 주소에서 온 다음 요청은 primary, 다른 주소는 복제본
+        AtomicReference<String> sameAddress = new AtomicReference<>();
+        filter.doFilter(request("10.0.0.1"), new MockHttpServletResponse(),
+                (request, response) -> sameAddress.set(connectionUrl(true)));
+        AtomicReference<String> otherAddress = new AtomicReference<>();
+        filter.doFilter(request("10.0.0.2"), new MockHttpServletResponse(),
+                (request, response) -> otherAddress.set(connectionUrl(true)));
+        
+        assertThat(sameAddress.get()).doesNotContain(REPLICA_DB);
+        assertThat(otherAddress.get()).contains(REPLICA_DB);
+    }
+    
+    @Test
+    void replicatesArchivedOrdersAndDeletes() throws InterruptedException {
+        OrderResponse order = orderService.createOrder(orderRequest("archived"));
+        orderService.updateOrderStatus(order.getId(), OrderStatus.CANCELLED);
+        replicationSimulator.replicate();
+        
+        JdbcTemplate replica = new JdbcTemplate(replicaSelector.getReplicas().get("replica-1"));
+        assertThat(count(replica, "order_items", "order_id", order.getId())).isEqualTo(2);
+        
+        Thread.sleep(20);
+        orderArchiveService.archiveTerminalOrders();
+        replicationSimulator.replicate();
+        
+        // 원본 삭제와 아카이브 복사가 모두 복제본에 반영
+        assertThat(count(replica, "orders", "id", order.getId())).isZero();
+        assertThat(count(replica, "order_items", "order_id", order.getId())).isZero();
+        assertThat(count(replica, "orders_archive", "id", order.getId())).isEqualTo(1);
+        assertThat(count(replica, "order_items_archive", "order_id", order.getId())).isEqualTo(2);
+        
+        // 복제본에서 읽어도 아카이브 fallback으로 조회됨
+        assertThat(connectionUrl(true)).contains(REPLICA_DB);
+        assertThat(orderService.getOrder(order.getId()).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+    
+    @Test
+    @DirtiesContext
+    void readsFailOverToPrimaryWhenReplicaIsDown() {
+        Long orderId = orderService.createOrder(orderRequest("failover")).getId();
+        ((HikariDataSource) replicaSelector.getReplicas().get("replica-1")).close();
+        
+        // 첫 읽기는 복제본 커넥션 실패 후 primary, 이후로는 복제본이 제외되어 바로 primary
+        assertThat(connectionUrl(true)).doesNotContain(REPLICA_DB);
+        assertThat(replicaSelector.next()).isNull();
+        assertThat(orderService.getOrder(orderId).getStatus()).isEqualTo(OrderStatus.PENDING);
+    }
+    
+    private String connectionUrl(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            try {
+                return connection.getMetaData().getURL();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+    
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+    
+    private static long count(JdbcTemplate jdbcTemplate, String table, String column, Long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Long.class, id);
+    }
+    
+    private static CreateOrderRequest orderRequest(String customerName) {
+        return CreateOrderRequest.builder()
+                .customerName(customerName)
+                .totalAmount(BigDecimal.valueOf(3000))
+                .items(List.of(
+                        CreateOrderItemRequest.builder().productName("book").quantity(1).unitPrice(BigDecimal.valueOf(1000)).build(),
+                        CreateOrderItemRequest.builder().productName("pen").quantity(2).unitPrice(BigDecimal.valueOf(1000)).build()))
+                .build();
+    }
+}
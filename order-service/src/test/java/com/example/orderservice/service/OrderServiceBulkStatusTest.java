@@ -0,0 +1,106 @@
+package com.example.orderservice.service;
+
+import com.example.orderservice.domain.Order;
+import com.example.orderservice.domain.OrderStatus;
+import com.example.orderservice.dto.BulkUpdateOrderStatusRequest;
+import com.example.orderservice.dto.BulkUpdateOrderStatusResponse;
+import com.example.orderservice.repository.OrderOutboxRepository;
+import com.example.orderservice.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 벌크 상태 변경 검증 (H2)
+ * 주문 1만 건을 한 번의 요청으로 전환하고, 전환 규칙에 맞지 않거나 없는 주문이 거부되는지와 소요 시간을 확인합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:order_db_bulk;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("h2")
+class OrderServiceBulkStatusTest {
+    
+    private static final int PENDING_ORDERS = 9_000;
+    private static final int SHIPPED_ORDERS = 1_000;
+    
+    @Autowired
+    private OrderService orderService;
+    
+    @Autowired
+    private OrderRepository orderRepository;
+    
+    @Autowired
+    private OrderOutboxRepository outboxRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Test
+    void bulkApprovesTenThousandOrdersAndRejectsIneligibleOnes() {
+        List<Long> pendingIds = createOrders(PENDING_ORDERS, OrderStatus.PENDING);
+        List<Long> shippedIds = createOrders(SHIPPED_ORDERS, OrderStatus.SHIPPED);
+        List<Long> missingIds = List.of(-1L, -2L, -3L);
+        
+        List<Long> requestedIds = new ArrayList<>();
+        requestedIds.addAll(pendingIds);
+        requestedIds.addAll(shippedIds);
+        requestedIds.addAll(missingIds);
+        Collections.shuffle(requestedIds, new Random(42));
+        
+        Set<Long> approvable = new HashSet<>(pendingIds);
+        List<Long> expectedMoved = requestedIds.stream().filter(approvable::contains).toList();
+        List<Long> expectedRejected = requestedIds.stream().filter(id -> !approvable.contains(id)).toList();
+        long outboxBefore = outboxRepository.count();
+        
+        long start = System.nanoTime();
+        BulkUpdateOrderStatusResponse response = orderService.bulkUpdateOrderStatus(BulkUpdateOrderStatusRequest.builder()
+                .status(OrderStatus.APPROVED)
+                .orderIds(requestedIds)
+                .build());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.printf("Bulk status update: %d orders requested, %d moved, %d rejected in %d ms%n",
+                requestedIds.size(), response.getUpdatedCount(), response.getRejectedCount(), elapsedMillis);
+        
+        // 응답은 요청 순서를 유지
+        assertThat(response.getUpdatedOrderIds()).containsExactlyElementsOf(expectedMoved);
+        assertThat(response.getRejectedOrderIds()).containsExactlyElementsOf(expectedRejected);
+        assertThat(response.getUpdatedCount()).isEqualTo(PENDING_ORDERS);
+        assertThat(response.getRejectedCount()).isEqualTo(SHIPPED_ORDERS + missingIds.size());
+        
+        assertThat(orderRepository.findAllById(pendingIds))
+                .extracting(Order::getStatus)
+                .containsOnly(OrderStatus.APPROVED);
+        assertThat(orderRepository.findAllById(shippedIds))
+                .extracting(Order::getStatus)
+                .containsOnly(OrderStatus.SHIPPED);
+        // 전환된 주문마다 같은 트랜잭션에서 Outbox 이벤트 하나
+        assertThat(outboxRepository.count() - outboxBefore).isEqualTo(PENDING_ORDERS);
+    }
+    
+    private List<Long> createOrders(int count, OrderStatus status) {
+        return transactionTemplate.execute(tx -> {
+            List<Order> orders = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                orders.add(Order.builder()
+                        .orderNumber("BULK-" + status + "-" + i)
+                        .customerName("bulk-" + (i % 100))
+                        .totalAmount(BigDecimal.valueOf(1000))
+                        .status(status)
+                        .itemCount(0)
+                        .build());
+            }
+            return orderRepository.saveAll(orders).stream().map(Order::getId).toList();
+        });
+    }
+}
@@ -39,12 +39,19 @@ curl -i -X POST -H "Accept:application/json" -H "Content-Type:application/json"
   http://localhost:8083/connectors/ \
   -d @debezium-config/mysql-order-connector.json
 
+echo ""
+echo "📡 Registering Debezium Outbox Connector..."
+curl -i -X POST -H "Accept:application/json" -H "Content-Type:application/json" \
+  http://localhost:8083/connectors/ \
+  -d @debezium-config/mysql-order-outbox-connector.json
+
 # Step 5: Connector 상태 확인
 echo ""
 echo ""
 echo "🔍 Step 5: Checking connector status..."
 sleep 5
 curl -s http://localhost:8083/connectors/mysql-order-connector/status | jq .
+curl -s http://localhost:8083/connectors/mysql-order-outbox-connector/status | jq .
 
 # Step 6: Kafka 토픽 확인
 echo ""
@@ -15,7 +15,11 @@ CREATE_RESPONSE=$(curl -s -X POST $BASE_URL \
   -d '{
     "customerName": "홍길동",
     "totalAmount": 50000,
-    "notes": "배송 전 연락 주세요"
+    "notes": "배송 전 연락 주세요",
+    "items": [
+      {"productName": "무선 키보드", "quantity": 1, "unitPrice": 35000},
+      {"productName": "마우스 패드", "quantity": 3, "unitPrice": 5000}
+    ]
   }')
 
 echo "$CREATE_RESPONSE" | jq .
@@ -97,6 +101,22 @@ echo ""
 echo "Test 8: Retrieving DELIVERED orders..."
 curl -s "$BASE_URL?status=DELIVERED" | jq .
 
+# Test 9: 고객별 주문 이력 조회 (커서 기반)
+echo ""
+echo "Test 9: Retrieving order history for 홍길동..."
+CUSTOMER=$(jq -rn --arg name "홍길동" '$name | @uri')
+curl -s "$BASE_URL/customer/$CUSTOMER?size=10" | jq .
+
+# Test 10: 벌크 상태 변경 (PENDING -> APPROVED)
+echo ""
+echo "Test 10: Approving all PENDING orders in bulk..."
+curl -s -X PATCH $BASE_URL/status \
+  -H "Content-Type: application/json" \
+  -d '{
+    "status": "APPROVED",
+    "currentStatus": "PENDING"
+  }' | jq .
+
 echo ""
 echo "========================================="
 echo "✅ All tests completed!"